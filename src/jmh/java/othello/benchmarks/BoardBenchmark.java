@@ -0,0 +1,88 @@
+package othello.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import othello.core.Bitboards;
+import othello.core.Board;
+import othello.core.Player;
+import othello.core.Position;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BoardBenchmark {
+
+    private Board board;
+    private Player player;
+    private Position move;
+    private Position lineStart;
+    private Position lineNext;
+    private final char[] cells = new char[64];
+
+    @Setup
+    public void setUp() {
+        Games.Midgame midgame = Games.midgame(20);
+        board = midgame.board;
+        player = midgame.player;
+        move = board.validMoves(player).get(0);
+
+        lineStart = move;
+        lineNext = move.getNeighbours().stream()
+                .filter(neighbour -> (board.pieces(player.opponent()) & Bitboards.bit(neighbour.square())) != 0)
+                .findFirst()
+                .orElse(move.getNeighbours().get(0));
+    }
+
+    @Benchmark
+    public Board makeMove() {
+        board.makeMove(player, move);
+        board.undoMove();
+        return board;
+    }
+
+    /**
+     * Undoing a move drops the board's cached move masks, so this times a cold lookup on top of {@link #makeMove()}.
+     */
+    @Benchmark
+    public boolean validMovesRemain() {
+        board.makeMove(player, move);
+        board.undoMove();
+        return board.validMovesRemain(player);
+    }
+
+    @Benchmark
+    public List<Position> getPiecesOnLineBetween() {
+        return board.getPiecesOnLineBetween(lineStart, lineNext, player.opponent(), player);
+    }
+
+    @Benchmark
+    public Player[][] render() {
+        return board.render();
+    }
+
+    @Benchmark
+    public char[] renderIntoBuffer() {
+        board.render(cells, 0);
+        return cells;
+    }
+
+    @Benchmark
+    public Map<Player, Integer> currentScore() {
+        return board.currentScore();
+    }
+}
@@ -0,0 +1,47 @@
+package othello.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import othello.engine.PatternEvaluator;
+import othello.engine.SimpleEvaluator;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EvaluatorBenchmark {
+
+    private final SimpleEvaluator simple = new SimpleEvaluator();
+    private final PatternEvaluator pattern = new PatternEvaluator();
+    private long own;
+    private long opponent;
+
+    @Setup
+    public void setUp() {
+        Games.Midgame midgame = Games.midgame(20);
+        own = midgame.board.pieces(midgame.player);
+        opponent = midgame.board.pieces(midgame.player.opponent());
+    }
+
+    @Benchmark
+    public int simple() {
+        return simple.evaluate(own, opponent);
+    }
+
+    @Benchmark
+    public int pattern() {
+        return pattern.evaluate(own, opponent);
+    }
+}
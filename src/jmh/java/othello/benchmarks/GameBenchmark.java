@@ -0,0 +1,38 @@
+package othello.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import othello.core.Othello;
+import othello.core.Player;
+
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GameBenchmark {
+
+    private final SplittableRandom random = new SplittableRandom(2018);
+
+    @Benchmark
+    public Map<Player, Integer> randomGame() {
+        Othello othello = new Othello();
+        othello.newGame();
+        while (othello.whoseTurn() != Player._) {
+            othello.placePiece(Games.randomMove(othello.getBoard(), othello.whoseTurn(), random));
+        }
+        return othello.currentScore();
+    }
+}
@@ -0,0 +1,41 @@
+package othello.benchmarks;
+
+import othello.core.Board;
+import othello.core.MoveIterator;
+import othello.core.Othello;
+import othello.core.Player;
+import othello.core.Position;
+
+import java.util.SplittableRandom;
+
+class Games {
+
+    static class Midgame {
+        final Board board;
+        final Player player;
+
+        Midgame(Board board, Player player) {
+            this.board = board;
+            this.player = player;
+        }
+    }
+
+    static Midgame midgame(int moves) {
+        SplittableRandom random = new SplittableRandom(42);
+        Othello othello = new Othello();
+        othello.newGame();
+        for (int i = 0; i < moves && othello.whoseTurn() != Player._; i++) {
+            othello.placePiece(randomMove(othello.getBoard(), othello.whoseTurn(), random));
+        }
+        return new Midgame(othello.getBoard(), othello.whoseTurn());
+    }
+
+    static Position randomMove(Board board, Player player, SplittableRandom random) {
+        long moves = board.legalMoves(player);
+        MoveIterator iterator = new MoveIterator(moves);
+        for (int skip = random.nextInt(Long.bitCount(moves)); skip > 0; skip--) {
+            iterator.nextSquare();
+        }
+        return iterator.nextPosition();
+    }
+}
@@ -0,0 +1,89 @@
+package othello.book;
+
+import othello.core.Bitboards;
+import othello.core.Board;
+import othello.core.Player;
+import othello.core.Position;
+import othello.core.Symmetry;
+import othello.core.Zobrist;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import static othello.book.OpeningBookFormat.*;
+
+/**
+ * Read-only opening book backed by a memory-mapped file. Lookups binary-search the mapped entries directly, so
+ * opening a book costs the same whatever its size and pages are only read as they are touched.
+ */
+public class OpeningBook implements Closeable {
+
+    public static final int NO_MOVE = -1;
+
+    private final FileChannel channel;
+    private final MappedByteBuffer buffer;
+    private final int entryCount;
+
+    public OpeningBook(Path path) throws IOException {
+        this.channel = FileChannel.open(path, StandardOpenOption.READ);
+        long size = channel.size();
+        if (size > Integer.MAX_VALUE) throw new IOException("Opening books larger than 2GB are not supported.");
+        if (size < HEADER_SIZE) throw new IOException("Not an opening book, too short.");
+
+        this.buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+        if (buffer.getInt(0) != MAGIC || buffer.get(4) != VERSION) throw new IOException("Not an opening book, bad header.");
+
+        this.entryCount = buffer.getInt(8);
+        if (HEADER_SIZE + (long) entryCount * ENTRY_SIZE > size) throw new IOException("Opening book is truncated.");
+    }
+
+    public int size() {
+        return entryCount;
+    }
+
+    public Position lookup(Board board, Player player) {
+        long own = board.pieces(player);
+        long opponent = board.pieces(player.opponent());
+        int symmetry = Symmetry.canonicalSymmetry(own, opponent);
+
+        int move = lookup(Zobrist.hash(Symmetry.transform(own, symmetry), Symmetry.transform(opponent, symmetry)));
+        if (move == NO_MOVE) return null;
+
+        int square = Symmetry.fromCanonical(move, symmetry);
+        // a hash collision can hand back a move from some other position
+        if ((board.legalMoves(player) & Bitboards.bit(square)) == 0) return null;
+        return Position.of(square);
+    }
+
+    public int lookup(long canonicalHash) {
+        int entry = find(canonicalHash);
+        return entry < 0 ? NO_MOVE : buffer.get(HEADER_SIZE + entry * ENTRY_SIZE + 8);
+    }
+
+    public int games(long canonicalHash) {
+        int entry = find(canonicalHash);
+        return entry < 0 ? 0 : buffer.getInt(HEADER_SIZE + entry * ENTRY_SIZE + 12);
+    }
+
+    private int find(long key) {
+        int low = 0;
+        int high = entryCount - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            long middleKey = buffer.getLong(HEADER_SIZE + middle * ENTRY_SIZE);
+            if (middleKey < key) low = middle + 1;
+            else if (middleKey > key) high = middle - 1;
+            else return middle;
+        }
+        return -1;
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+}
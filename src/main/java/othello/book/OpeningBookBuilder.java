@@ -0,0 +1,197 @@
+package othello.book;
+
+import othello.core.Board;
+import othello.core.Player;
+import othello.core.Symmetry;
+import othello.record.GameRecordReader;
+import othello.record.GameResult;
+
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import static othello.book.OpeningBookFormat.*;
+
+/**
+ * Collects move statistics from finished games and writes them out as an {@link OpeningBook}. Positions are keyed by
+ * their canonical hash, so games that differ only by a rotation or reflection add to the same statistics. A move
+ * scores two points for a win and one for a draw; each position keeps the move with the best average, as long as it
+ * was played in at least {@code minGames} games.
+ */
+public class OpeningBookBuilder {
+
+    private final int maxPlies;
+    private final int minGames;
+    private final Map<Long, MoveStats> positions = new HashMap<>();
+    private final Board board = new Board();
+    private final long[] keys = new long[64];
+    private final int[] canonicalMoves = new int[64];
+    private final Player[] players = new Player[64];
+
+    public OpeningBookBuilder(int maxPlies, int minGames) {
+        if (maxPlies < 1 || maxPlies > 60) throw new IllegalArgumentException("Book depth must be between 1 and 60 plies.");
+        if (minGames < 1) throw new IllegalArgumentException("Book moves need at least one game.");
+        this.maxPlies = maxPlies;
+        this.minGames = minGames;
+    }
+
+    public int positions() {
+        return positions.size();
+    }
+
+    public void addGames(GameRecordReader games) {
+        byte[] moves = new byte[64];
+        for (int game = 0; game < games.gameCount(); game++) {
+            int moveCount = games.moveCount(game);
+            for (int ply = 0; ply < moveCount; ply++) {
+                moves[ply] = (byte) games.move(game, ply);
+            }
+            addGame(moves, moveCount, games.xScore(game), games.oScore(game));
+        }
+    }
+
+    public void addGame(GameResult result) {
+        addGame(result.moves, result.moves.length, result.xScore, result.oScore);
+    }
+
+    public void addGame(byte[] moves, int moveCount, int xScore, int oScore) {
+        int plies = Math.min(moveCount, maxPlies);
+        board.reset();
+        Player player = Player.X;
+        for (int ply = 0; ply < plies; ply++) {
+            long own = board.pieces(player);
+            long opponent = board.pieces(player.opponent());
+            keys[ply] = Symmetry.canonicalHash(own, opponent);
+            canonicalMoves[ply] = canonicalMove(own, opponent, moves[ply]);
+            players[ply] = player;
+
+            board.makeMove(player, moves[ply]);
+            player = board.nextToMove(player);
+        }
+
+        for (int ply = 0; ply < plies; ply++) {
+            int own = players[ply] == Player.X ? xScore : oScore;
+            int opponent = players[ply] == Player.X ? oScore : xScore;
+            record(keys[ply], canonicalMoves[ply], own > opponent ? 2 : own == opponent ? 1 : 0);
+        }
+    }
+
+    public int write(Path path) throws IOException {
+        long[] bookKeys = new long[positions.size()];
+        int count = 0;
+        for (Map.Entry<Long, MoveStats> position : positions.entrySet()) {
+            if (best(position.getValue()) != null) bookKeys[count++] = position.getKey();
+        }
+        Arrays.sort(bookKeys, 0, count);
+
+        try (DataOutputStream output = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(path), 1 << 16))) {
+            output.writeInt(MAGIC);
+            output.writeByte(VERSION);
+            output.write(new byte[3]);
+            output.writeInt(count);
+            output.writeInt(0);
+
+            for (int i = 0; i < count; i++) {
+                MoveStats move = best(positions.get(bookKeys[i]));
+                output.writeLong(bookKeys[i]);
+                output.writeByte(move.square);
+                output.write(new byte[3]);
+                output.writeInt(move.games);
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Positions with symmetries of their own, such as the start position, have several moves that lead to equivalent
+     * positions. Taking the smallest canonical square over every symmetry that fixes the canonical board folds them into
+     * one book move.
+     */
+    private static int canonicalMove(long own, long opponent, int square) {
+        int symmetry = Symmetry.canonicalSymmetry(own, opponent);
+        long canonicalOwn = Symmetry.transform(own, symmetry);
+        long canonicalOpponent = Symmetry.transform(opponent, symmetry);
+
+        int move = Symmetry.toCanonical(square, symmetry);
+        for (int other = 0; other < Symmetry.COUNT; other++) {
+            if (Symmetry.transform(own, other) == canonicalOwn && Symmetry.transform(opponent, other) == canonicalOpponent) {
+                move = Math.min(move, Symmetry.toCanonical(square, other));
+            }
+        }
+        return move;
+    }
+
+    private void record(long key, int square, int points) {
+        MoveStats first = positions.get(key);
+        for (MoveStats move = first; move != null; move = move.next) {
+            if (move.square == square) {
+                move.games++;
+                move.points += points;
+                return;
+            }
+        }
+        positions.put(key, new MoveStats(square, points, first));
+    }
+
+    private MoveStats best(MoveStats moves) {
+        MoveStats best = null;
+        for (MoveStats move = moves; move != null; move = move.next) {
+            if (move.games < minGames) continue;
+            if (best == null || move.betterThan(best)) best = move;
+        }
+        return best;
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 4) {
+            System.out.println("Usage: OpeningBookBuilder <book file> <plies> <min games> <games file>...");
+            System.out.println("Games files are either .otr records or text with one game per line as written by SelfPlayRunner.");
+            return;
+        }
+
+        OpeningBookBuilder builder = new OpeningBookBuilder(Integer.parseInt(args[1]), Integer.parseInt(args[2]));
+        for (int i = 3; i < args.length; i++) {
+            Path games = Paths.get(args[i]);
+            if (games.toString().endsWith(".otr")) {
+                try (GameRecordReader reader = new GameRecordReader(games)) {
+                    builder.addGames(reader);
+                }
+            } else {
+                try (BufferedReader reader = Files.newBufferedReader(games)) {
+                    for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+                        if (!line.trim().isEmpty()) builder.addGame(GameResult.parse(line));
+                    }
+                }
+            }
+        }
+
+        int entries = builder.write(Paths.get(args[0]));
+        System.out.println("Wrote " + entries + " of " + builder.positions() + " positions to " + args[0] + ".");
+    }
+
+    private static final class MoveStats {
+
+        final int square;
+        final MoveStats next;
+        int games = 1;
+        int points;
+
+        MoveStats(int square, int points, MoveStats next) {
+            this.square = square;
+            this.points = points;
+            this.next = next;
+        }
+
+        boolean betterThan(MoveStats other) {
+            long difference = (long) points * other.games - (long) other.points * games;
+            return difference > 0 || difference == 0 && games > other.games;
+        }
+    }
+}
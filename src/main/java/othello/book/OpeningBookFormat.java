@@ -0,0 +1,22 @@
+package othello.book;
+
+/**
+ * Layout of an opening book file, all multi-byte values big-endian:
+ * <pre>
+ * header   "OTHB" version(1) reserved(3) entryCount(4) reserved(4)
+ * entry    key(8) move(1) reserved(3) games(4)
+ * </pre>
+ * Entries are sorted by key as signed longs. The key is {@link othello.core.Symmetry#canonicalHash} of the position
+ * for the side to move and the move is a square in the canonical orientation.
+ */
+final class OpeningBookFormat {
+
+    static final int MAGIC = 0x4F544842;
+    static final byte VERSION = 1;
+
+    static final int HEADER_SIZE = 16;
+    static final int ENTRY_SIZE = 16;
+
+    private OpeningBookFormat() {
+    }
+}
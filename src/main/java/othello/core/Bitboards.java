@@ -0,0 +1,89 @@
+package othello.core;
+
+/**
+ * Shift-and-mask helpers over 64-bit boards. Square {@code x * 8 + y} maps to bit {@code 1L << (x * 8 + y)},
+ * so row 0 is the low byte and column 0 is the low bit of each byte.
+ */
+public final class Bitboards {
+
+    public static final long NOT_FIRST_COLUMN = 0xFEFEFEFEFEFEFEFEL;
+    public static final long NOT_LAST_COLUMN = 0x7F7F7F7F7F7F7F7FL;
+    public static final long ALL = 0xFFFFFFFFFFFFFFFFL;
+
+    private static final int[] SHIFTS = {1, 7, 8, 9};
+    private static final long[] LEFT_MASKS = {NOT_FIRST_COLUMN, NOT_LAST_COLUMN, ALL, NOT_FIRST_COLUMN};
+    private static final long[] RIGHT_MASKS = {NOT_LAST_COLUMN, NOT_FIRST_COLUMN, ALL, NOT_LAST_COLUMN};
+
+    private Bitboards() {
+    }
+
+    public static int square(int x, int y) {
+        return x * 8 + y;
+    }
+
+    public static long bit(int square) {
+        return 1L << square;
+    }
+
+    public static long legalMoves(long own, long opponent) {
+        long empty = ~(own | opponent);
+        long moves = 0;
+
+        for (int i = 0; i < SHIFTS.length; i++) {
+            int shift = SHIFTS[i];
+
+            long leftMask = LEFT_MASKS[i];
+            long line = (own << shift) & leftMask & opponent;
+            line |= (line << shift) & leftMask & opponent;
+            line |= (line << shift) & leftMask & opponent;
+            line |= (line << shift) & leftMask & opponent;
+            line |= (line << shift) & leftMask & opponent;
+            line |= (line << shift) & leftMask & opponent;
+            moves |= (line << shift) & leftMask & empty;
+
+            long rightMask = RIGHT_MASKS[i];
+            line = (own >>> shift) & rightMask & opponent;
+            line |= (line >>> shift) & rightMask & opponent;
+            line |= (line >>> shift) & rightMask & opponent;
+            line |= (line >>> shift) & rightMask & opponent;
+            line |= (line >>> shift) & rightMask & opponent;
+            line |= (line >>> shift) & rightMask & opponent;
+            moves |= (line >>> shift) & rightMask & empty;
+        }
+        return moves;
+    }
+
+    public static long adjacent(long squares) {
+        long horizontal = ((squares << 1) & NOT_FIRST_COLUMN) | ((squares >>> 1) & NOT_LAST_COLUMN);
+        long row = squares | horizontal;
+        return horizontal | (row << 8) | (row >>> 8);
+    }
+
+    public static long flips(long own, long opponent, int square) {
+        long move = 1L << square;
+        long flips = 0;
+
+        for (int i = 0; i < SHIFTS.length; i++) {
+            int shift = SHIFTS[i];
+
+            long leftMask = LEFT_MASKS[i];
+            long line = 0;
+            long next = (move << shift) & leftMask;
+            while ((next & opponent) != 0) {
+                line |= next;
+                next = (next << shift) & leftMask;
+            }
+            if ((next & own) != 0) flips |= line;
+
+            long rightMask = RIGHT_MASKS[i];
+            line = 0;
+            next = (move >>> shift) & rightMask;
+            while ((next & opponent) != 0) {
+                line |= next;
+                next = (next >>> shift) & rightMask;
+            }
+            if ((next & own) != 0) flips |= line;
+        }
+        return flips;
+    }
+}
@@ -2,12 +2,13 @@ package othello.core;
 
 import othello.core.exceptions.InvalidMoveException;
 
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Function;
-import java.util.stream.Stream;
 
 import static othello.core.Player.O;
 import static othello.core.Player.X;
@@ -15,60 +16,267 @@ import static othello.core.Player._;
 
 public class Board {
 
-    private Map<Position, Player> moves = new HashMap<>();
+    private static final int MAX_MOVES = 64;
+    private static final long UNKNOWN = -1L;
+    private static final char[] CELLS = {'-', 'X', 'O'};
+    private static final Player[] PLAYERS = {_, X, O};
+
+    private long xPieces;
+    private long oPieces;
+    private long hash;
+    private int xCount;
+    private int oCount;
+    private long xMoves = UNKNOWN;
+    private long oMoves = UNKNOWN;
+    private Player turnCachedFor;
+    private Player nextTurn;
+
+    private final int[] undoSquares = new int[MAX_MOVES];
+    private final long[] undoFlips = new long[MAX_MOVES];
+    private final long[] undoHashes = new long[MAX_MOVES];
+    private int undoDepth;
 
     public Board() {
-        moves.put(new Position(3, 3), O);
-        moves.put(new Position(3, 4), X);
-        moves.put(new Position(4, 3), X);
-        moves.put(new Position(4, 4), O);
+        reset();
+    }
+
+    public void reset() {
+        xPieces = Bitboards.bit(Bitboards.square(3, 4)) | Bitboards.bit(Bitboards.square(4, 3));
+        oPieces = Bitboards.bit(Bitboards.square(3, 3)) | Bitboards.bit(Bitboards.square(4, 4));
+        hash = Zobrist.hash(xPieces, oPieces);
+        xCount = 2;
+        oCount = 2;
+        xMoves = UNKNOWN;
+        oMoves = UNKNOWN;
+        turnCachedFor = null;
+        undoDepth = 0;
+    }
+
+    public void load(long xPieces, long oPieces) {
+        if ((xPieces & oPieces) != 0) throw new IllegalArgumentException("X and O pieces cannot share a square.");
+
+        this.xPieces = xPieces;
+        this.oPieces = oPieces;
+        hash = Zobrist.hash(xPieces, oPieces);
+        xCount = Long.bitCount(xPieces);
+        oCount = Long.bitCount(oPieces);
+        xMoves = UNKNOWN;
+        oMoves = UNKNOWN;
+        turnCachedFor = null;
+        undoDepth = 0;
+    }
+
+    public Board copy() {
+        Board copy = new Board();
+        copy.xPieces = xPieces;
+        copy.oPieces = oPieces;
+        copy.hash = hash;
+        copy.xCount = xCount;
+        copy.oCount = oCount;
+        copy.xMoves = xMoves;
+        copy.oMoves = oMoves;
+        copy.turnCachedFor = turnCachedFor;
+        copy.nextTurn = nextTurn;
+        return copy;
+    }
+
+    public Board transform(int symmetry) {
+        Board transformed = new Board();
+        transformed.xPieces = Symmetry.transform(xPieces, symmetry);
+        transformed.oPieces = Symmetry.transform(oPieces, symmetry);
+        transformed.hash = Zobrist.hash(transformed.xPieces, transformed.oPieces);
+        transformed.xCount = xCount;
+        transformed.oCount = oCount;
+        return transformed;
+    }
+
+    /**
+     * Writes the 64 squares row by row into {@code target} from {@code offset} as {@code 'X'}, {@code 'O'} or
+     * {@code '-'}.
+     */
+    public void render(char[] target, int offset) {
+        render(xPieces, oPieces, target, offset);
+    }
+
+    static void render(long xPieces, long oPieces, char[] target, int offset) {
+        for (int square = 0; square < 64; square++) {
+            target[offset + square] = CELLS[cell(xPieces, oPieces, square)];
+        }
+    }
+
+    public void render(byte[] target, int offset) {
+        for (int square = 0; square < 64; square++) {
+            target[offset + square] = (byte) CELLS[cell(square)];
+        }
+    }
+
+    public void render(ByteBuffer target) {
+        for (int square = 0; square < 64; square++) {
+            target.put((byte) CELLS[cell(square)]);
+        }
+    }
+
+    public String toCompactString() {
+        return toCompactString(xPieces, oPieces);
+    }
+
+    static String toCompactString(long xPieces, long oPieces) {
+        char[] cells = new char[64];
+        render(xPieces, oPieces, cells, 0);
+        return new String(cells);
+    }
+
+    private int cell(int square) {
+        return cell(xPieces, oPieces, square);
+    }
+
+    private static int cell(long xPieces, long oPieces, int square) {
+        return (int) (xPieces >>> square & 1) | (int) (oPieces >>> square & 1) << 1;
     }
 
     public Player[][] render() {
         Player[][] board = new Player[8][8];
         for (int i = 0; i < board.length; i++) {
             for (int j = 0; j < board[i].length; j++) {
-                board[i][j] = _;
+                board[i][j] = PLAYERS[cell(Bitboards.square(i, j))];
             }
         }
-
-        moves.forEach((position, player) -> board[position.x][position.y] = player);
         return board;
     }
 
     public void makeMove(Player player, Position position) {
-        if (moves.containsKey(position))
+        if (!position.withinBounds())
+            throw new InvalidMoveException("Cannot place piece here, no opponent pieces will be taken.");
+
+        makeMove(player, position.square());
+    }
+
+    public void makeMove(Player player, int square) {
+        if (player == _) throw new InvalidMoveException("Game is over, no more moves can be made.");
+
+        long move = Bitboards.bit(square);
+
+        if (((xPieces | oPieces) & move) != 0)
             throw new InvalidMoveException("Cannot place piece here, place has already been taken.");
 
-        if (!positionIsValidMove(player, position))
+        long flips = Bitboards.flips(pieces(player), pieces(player.opponent()), square);
+        if (flips == 0)
             throw new InvalidMoveException("Cannot place piece here, no opponent pieces will be taken.");
 
-        getNeighbouringOpponents(player, position)
-                .flatMap(neighbour -> getPiecesOnLineBetween(position, neighbour, player.opponent(), player).stream())
-                .forEach(p -> moves.put(p, player));
+        int flipCount = Long.bitCount(flips);
+        if (player == X) {
+            xPieces |= move | flips;
+            oPieces &= ~flips;
+            xCount += flipCount + 1;
+            oCount -= flipCount;
+        } else {
+            oPieces |= move | flips;
+            xPieces &= ~flips;
+            oCount += flipCount + 1;
+            xCount -= flipCount;
+        }
+        xMoves = UNKNOWN;
+        oMoves = UNKNOWN;
+        turnCachedFor = null;
+
+        undoSquares[undoDepth] = square;
+        undoFlips[undoDepth] = flips;
+        undoHashes[undoDepth] = hash;
+        undoDepth++;
 
-        moves.put(position, player);
+        hash ^= Zobrist.key(player, square) ^ Zobrist.flipKey(flips);
     }
 
-    private Stream<Position> getNeighbouringOpponents(Player player, Position position) {
-        Player opponent = player.opponent();
-        return position.getNeighbours().stream().filter(p -> moves.get(p) == opponent);
+    public Position undoMove() {
+        if (undoDepth == 0) throw new InvalidMoveException("No moves to undo.");
+
+        undoDepth--;
+        int square = undoSquares[undoDepth];
+        long move = Bitboards.bit(square);
+        long flips = undoFlips[undoDepth];
+        hash = undoHashes[undoDepth];
+
+        int flipCount = Long.bitCount(flips);
+        if ((xPieces & move) != 0) {
+            xPieces &= ~(move | flips);
+            oPieces |= flips;
+            xCount -= flipCount + 1;
+            oCount += flipCount;
+        } else {
+            oPieces &= ~(move | flips);
+            xPieces |= flips;
+            oCount -= flipCount + 1;
+            xCount += flipCount;
+        }
+        xMoves = UNKNOWN;
+        oMoves = UNKNOWN;
+        turnCachedFor = null;
+        return Position.of(square);
     }
 
-    private boolean positionIsValidMove(Player player, Position position) {
-        if(getNeighbouringOpponents(player, position).count() == 0) return false;
+    public long hash() {
+        return hash;
+    }
 
-        return getNeighbouringOpponents(player, position).anyMatch(neighbour ->
-                getPiecesOnLineBetween(position, neighbour, player.opponent(), player).size() > 0
-        );
+    public long hash(Player toMove) {
+        return hash ^ Zobrist.sideKey(toMove);
+    }
+
+    public int movesMade() {
+        return undoDepth;
     }
 
     public boolean validMovesRemain(Player player) {
-        return moves.keySet().stream().filter(key -> moves.get(key) == player).anyMatch(position ->
-                getNeighbouringOpponents(player, position).anyMatch(neighbour ->
-                        getPiecesOnLineBetween(position, neighbour, player.opponent(), null).size() > 0
-                )
-        );
+        return legalMoves(player) != 0;
+    }
+
+    public Player nextToMove(Player lastToMove) {
+        if (turnCachedFor != lastToMove) {
+            Player opponent = lastToMove.opponent();
+            nextTurn = legalMoves(opponent) != 0 ? opponent : legalMoves(lastToMove) != 0 ? lastToMove : _;
+            turnCachedFor = lastToMove;
+        }
+        return nextTurn;
+    }
+
+    public long legalMoves(Player player) {
+        if (player == X) {
+            if (xMoves == UNKNOWN) xMoves = Bitboards.legalMoves(xPieces, oPieces);
+            return xMoves;
+        }
+        if (oMoves == UNKNOWN) oMoves = Bitboards.legalMoves(oPieces, xPieces);
+        return oMoves;
+    }
+
+    public int discCount(Player player) {
+        return player == X ? xCount : oCount;
+    }
+
+    public int mobility(Player player) {
+        return Long.bitCount(legalMoves(player));
+    }
+
+    public int frontier(Player player) {
+        return Long.bitCount(pieces(player) & Bitboards.adjacent(~(xPieces | oPieces)));
+    }
+
+    public long flips(Player player, int square) {
+        if (((xPieces | oPieces) & Bitboards.bit(square)) != 0) return 0;
+        return Bitboards.flips(pieces(player), pieces(player.opponent()), square);
+    }
+
+    public long flips(Player player, Position position) {
+        return position.withinBounds() ? flips(player, position.square()) : 0;
+    }
+
+    public List<Position> validMoves(Player player) {
+        List<Position> positions = new ArrayList<>();
+        MoveIterator moves = new MoveIterator(legalMoves(player));
+        while (moves.hasNext()) {
+            int square = moves.nextSquare();
+            positions.add(Position.of(square));
+        }
+        return positions;
     }
 
     public List<Position> getPiecesOnLineBetween(Position start, Position nextPosition, Player linePiece, Player terminator) {
@@ -77,9 +285,10 @@ public class Board {
         Function<Position, Position> transform = start.getPositionTransform(nextPosition);
         Position next = transform.apply(start);
         while (next.withinBounds()) {
-            if (moves.get(next) == linePiece) {
+            Player occupant = occupant(next);
+            if (occupant == linePiece) {
                 line.add(next);
-            } else if (moves.get(next) == terminator) {
+            } else if (occupant == terminator) {
                 return line;
             } else {
                 break;
@@ -90,11 +299,21 @@ public class Board {
         return line;
     }
 
+    public long pieces(Player player) {
+        return player == X ? xPieces : player == O ? oPieces : ~(xPieces | oPieces);
+    }
+
+    private Player occupant(Position position) {
+        long bit = Bitboards.bit(position.square());
+        if ((xPieces & bit) != 0) return X;
+        if ((oPieces & bit) != 0) return O;
+        return null;
+    }
+
     public Map<Player, Integer> currentScore() {
         Map<Player, Integer> score = new HashMap<>();
-        score.put(X, 0);
-        score.put(O, 0);
-        moves.forEach((position, player) -> score.put(player, score.get(player) + 1));
+        score.put(X, xCount);
+        score.put(O, oCount);
 
         return score;
     }
@@ -0,0 +1,72 @@
+package othello.core;
+
+/**
+ * Immutable view of a game at one moment: both players' pieces and the player to move. Snapshots are safe to share
+ * between threads without locking, and {@link #toBoard()} turns one back into a playable {@link Board}.
+ */
+public final class BoardSnapshot {
+
+    private final long xPieces;
+    private final long oPieces;
+    private final Player toMove;
+    private final long hash;
+
+    public BoardSnapshot(long xPieces, long oPieces, Player toMove) {
+        this(xPieces, oPieces, toMove, Zobrist.hash(xPieces, oPieces));
+        if ((xPieces & oPieces) != 0) throw new IllegalArgumentException("X and O pieces cannot share a square.");
+    }
+
+    private BoardSnapshot(long xPieces, long oPieces, Player toMove, long hash) {
+        this.xPieces = xPieces;
+        this.oPieces = oPieces;
+        this.toMove = toMove;
+        this.hash = hash;
+    }
+
+    /**
+     * Copies the board's pieces and its incrementally kept hash, so publishing a snapshot costs no hashing.
+     */
+    public static BoardSnapshot of(Board board, Player toMove) {
+        return new BoardSnapshot(board.pieces(Player.X), board.pieces(Player.O), toMove, board.hash());
+    }
+
+    public long pieces(Player player) {
+        return player == Player.X ? xPieces : player == Player.O ? oPieces : ~(xPieces | oPieces);
+    }
+
+    public Player toMove() {
+        return toMove;
+    }
+
+    public int discCount(Player player) {
+        return Long.bitCount(pieces(player));
+    }
+
+    public Board toBoard() {
+        Board board = new Board();
+        board.load(xPieces, oPieces);
+        return board;
+    }
+
+    public String toCompactString() {
+        return Board.toCompactString(xPieces, oPieces);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) return true;
+        if (!(other instanceof BoardSnapshot)) return false;
+        BoardSnapshot snapshot = (BoardSnapshot) other;
+        return xPieces == snapshot.xPieces && oPieces == snapshot.oPieces && toMove == snapshot.toMove;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(hash) * 31 + toMove.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return toCompactString() + " " + toMove;
+    }
+}
@@ -0,0 +1,35 @@
+package othello.core;
+
+import java.util.function.Function;
+
+public enum Direction {
+    NORTH_WEST(-1, -1),
+    NORTH(-1, 0),
+    NORTH_EAST(-1, 1),
+    WEST(0, -1),
+    EAST(0, 1),
+    SOUTH_WEST(1, -1),
+    SOUTH(1, 0),
+    SOUTH_EAST(1, 1);
+
+    public final int xDelta;
+    public final int yDelta;
+    private final Function<Position, Position> transform;
+
+    Direction(int xDelta, int yDelta) {
+        this.xDelta = xDelta;
+        this.yDelta = yDelta;
+        this.transform = p -> Position.at(p.x + xDelta, p.y + yDelta);
+    }
+
+    public Function<Position, Position> transform() {
+        return transform;
+    }
+
+    public static Direction of(int xDelta, int yDelta) {
+        for (Direction direction : values()) {
+            if (direction.xDelta == xDelta && direction.yDelta == yDelta) return direction;
+        }
+        return null;
+    }
+}
@@ -0,0 +1,36 @@
+package othello.core;
+
+import java.util.NoSuchElementException;
+
+public class MoveIterator {
+
+    private long remaining;
+
+    public MoveIterator() {
+    }
+
+    public MoveIterator(long moves) {
+        reset(moves);
+    }
+
+    public MoveIterator reset(long moves) {
+        remaining = moves;
+        return this;
+    }
+
+    public boolean hasNext() {
+        return remaining != 0;
+    }
+
+    public int nextSquare() {
+        if (remaining == 0) throw new NoSuchElementException("No moves remain.");
+
+        int square = Long.numberOfTrailingZeros(remaining);
+        remaining &= remaining - 1;
+        return square;
+    }
+
+    public Position nextPosition() {
+        return Position.of(nextSquare());
+    }
+}
@@ -0,0 +1,25 @@
+package othello.core;
+
+public final class Notation {
+
+    private Notation() {
+    }
+
+    public static int parse(CharSequence text) {
+        return text.length() == 2 ? square(text.charAt(0), text.charAt(1)) : -1;
+    }
+
+    public static int square(char column, char row) {
+        int x = row - '1';
+        int y = column - 'a';
+        return x >= 0 && x < 8 && y >= 0 && y < 8 ? x * 8 + y : -1;
+    }
+
+    public static String format(Position position) {
+        return format(position.square());
+    }
+
+    public static String format(int square) {
+        return new String(new char[]{(char) ('a' + square % 8), (char) ('1' + square / 8)});
+    }
+}
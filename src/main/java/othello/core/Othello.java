@@ -1,5 +1,7 @@
 package othello.core;
 
+import othello.core.exceptions.InvalidMoveException;
+
 import java.util.Map;
 
 import static othello.core.Player.*;
@@ -8,30 +10,56 @@ public class Othello {
 
     private Board board;
     private Player currentPlayer;
+    private final Player[] previousPlayers = new Player[64];
+    private int movesPlayed;
+    private volatile BoardSnapshot snapshot;
 
     public void newGame() {
         currentPlayer = X;
-        board = new Board();
+        if (board == null) board = new Board();
+        else board.reset();
+        movesPlayed = 0;
+        publish();
     }
 
     public Board getBoard() {
         return board;
     }
 
+    /**
+     * The latest published state of the game, replaced after every move, undo and new game. Safe to call from any
+     * thread while another thread plays moves.
+     */
+    public BoardSnapshot snapshot() {
+        return snapshot;
+    }
+
     public Player whoseTurn() {
         return currentPlayer;
     }
 
     public void placePiece(Position position) {
         board.makeMove(currentPlayer, position);
+        previousPlayers[movesPlayed++] = currentPlayer;
         progressPlayer();
+        publish();
+    }
+
+    public Position undoMove() {
+        if (movesPlayed == 0) throw new InvalidMoveException("No moves to undo.");
+
+        Position position = board.undoMove();
+        currentPlayer = previousPlayers[--movesPlayed];
+        publish();
+        return position;
+    }
+
+    private void publish() {
+        snapshot = BoardSnapshot.of(board, currentPlayer);
     }
 
     private void progressPlayer() {
-        Player nextPlayer = currentPlayer.opponent();
-        if(!board.validMovesRemain(nextPlayer)) nextPlayer = nextPlayer.opponent();
-        if(!board.validMovesRemain(nextPlayer)) nextPlayer = _;
-        currentPlayer = nextPlayer;
+        currentPlayer = board.nextToMove(currentPlayer);
     }
 
     public Player[][] renderBoard() {
@@ -41,4 +69,8 @@ public class Othello {
     public Map<Player, Integer> currentScore() {
         return board.currentScore();
     }
+
+    public int score(Player player) {
+        return board.discCount(player);
+    }
 }
\ No newline at end of file
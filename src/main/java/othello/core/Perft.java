@@ -0,0 +1,73 @@
+package othello.core;
+
+/**
+ * Counts the leaves of the game tree to a fixed depth using {@link Board#legalMoves}, {@link Board#makeMove} and
+ * {@link Board#undoMove}. Turns alternate as in {@link Othello}: a player with no moves passes and the game ends when
+ * neither side can move. As in the published reference counts, a forced pass uses up one ply and a finished game
+ * counts as a single leaf.
+ */
+public class Perft {
+
+    public static final long[] REFERENCE_COUNTS = {
+            1L, 4L, 12L, 56L, 244L, 1396L, 8200L, 55092L, 390216L, 3005288L, 24571284L, 212258800L,
+            1939886636L, 18429641748L, 184042084512L
+    };
+
+    private final Board board;
+    private final Player player;
+
+    public Perft() {
+        this(new Board(), Player.X);
+    }
+
+    public Perft(Board board, Player player) {
+        this.board = board.copy();
+        this.player = player;
+    }
+
+    public long count(int depth) {
+        return count(player, depth, false);
+    }
+
+    private long count(Player player, int depth, boolean passed) {
+        if (depth == 0) return 1;
+
+        long moves = board.legalMoves(player);
+        if (moves == 0) {
+            if (passed) return 1;
+            return count(player.opponent(), depth - 1, true);
+        }
+        if (depth == 1) return Long.bitCount(moves);
+
+        long leaves = 0;
+        for (; moves != 0; moves &= moves - 1) {
+            board.makeMove(player, Long.numberOfTrailingZeros(moves));
+            leaves += count(player.opponent(), depth - 1, false);
+            board.undoMove();
+        }
+        return leaves;
+    }
+
+    public static void main(String[] args) {
+        int maxDepth = args.length > 0 ? Integer.parseInt(args[0]) : 9;
+        Perft perft = new Perft();
+        boolean allMatch = true;
+
+        for (int depth = 1; depth <= maxDepth; depth++) {
+            long start = System.nanoTime();
+            long leaves = perft.count(depth);
+            long elapsedNanos = Math.max(1, System.nanoTime() - start);
+
+            String check = "unverified";
+            if (depth < REFERENCE_COUNTS.length) {
+                boolean matches = leaves == REFERENCE_COUNTS[depth];
+                allMatch &= matches;
+                check = matches ? "OK" : "MISMATCH, expected " + REFERENCE_COUNTS[depth];
+            }
+            System.out.println("perft(" + depth + ") = " + leaves + " in " + elapsedNanos / 1_000_000 + "ms, "
+                    + leaves * 1_000_000_000 / elapsedNanos + " leaves/s, " + check);
+        }
+
+        if (!allMatch) System.exit(1);
+    }
+}
@@ -2,22 +2,58 @@ package othello.core;
 
 import othello.core.exceptions.InvalidTransformException;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
-import java.util.Objects;
 import java.util.function.Function;
-import java.util.stream.Collectors;
-
-import static com.google.common.collect.Lists.newArrayList;
 
 public class Position {
-    public int x;
-    public int y;
+
+    private static final Position[] SQUARES = new Position[64];
+    private static final Position[][] RAYS = new Position[64][];
+    private static final List<List<Position>> NEIGHBOURS = new ArrayList<>(64);
+
+    static {
+        for (int square = 0; square < 64; square++) {
+            SQUARES[square] = new Position(square / 8, square % 8);
+        }
+        for (Position position : SQUARES) {
+            Direction[] directions = Direction.values();
+            Position[] ray = new Position[directions.length];
+            List<Position> neighbours = new ArrayList<>(directions.length);
+            for (Direction direction : directions) {
+                int x = position.x + direction.xDelta;
+                int y = position.y + direction.yDelta;
+                if (inBounds(x, y)) {
+                    ray[direction.ordinal()] = SQUARES[x * 8 + y];
+                    neighbours.add(SQUARES[x * 8 + y]);
+                }
+            }
+            RAYS[position.square()] = ray;
+            NEIGHBOURS.add(Collections.unmodifiableList(neighbours));
+        }
+    }
+
+    public final int x;
+    public final int y;
 
     public Position(int x, int y) {
         this.x = x;
         this.y = y;
     }
 
+    public static Position at(int x, int y) {
+        return inBounds(x, y) ? SQUARES[x * 8 + y] : new Position(x, y);
+    }
+
+    public static Position of(int square) {
+        return SQUARES[square];
+    }
+
+    public int square() {
+        return x * 8 + y;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -29,22 +65,23 @@ public class Position {
 
     @Override
     public int hashCode() {
-        return Objects.hash(x, y);
+        return 31 * (31 + x) + y;
     }
 
     public List<Position> getNeighbours() {
-        return newArrayList(
-                new Position(x - 1, y - 1),
-                new Position(x - 1, y),
-                new Position(x - 1, y + 1),
-                new Position(x, y - 1),
-                new Position(x, y + 1),
-                new Position(x + 1, y - 1),
-                new Position(x + 1, y),
-                new Position(x + 1, y + 1)
-        ).stream()
-                .filter(Position::withinBounds)
-                .collect(Collectors.toList());
+        if (withinBounds()) return NEIGHBOURS.get(square());
+
+        List<Position> neighbours = new ArrayList<>();
+        for (Direction direction : Direction.values()) {
+            Position neighbour = Position.at(x + direction.xDelta, y + direction.yDelta);
+            if (neighbour.withinBounds()) neighbours.add(neighbour);
+        }
+        return neighbours;
+    }
+
+    public Position next(Direction direction) {
+        if (!withinBounds()) return null;
+        return RAYS[square()][direction.ordinal()];
     }
 
     @Override
@@ -52,6 +89,16 @@ public class Position {
         return "(" + x + "," + y + ")";
     }
 
+    public Direction getDirection(Position nextPosition) {
+        int xDelta = nextPosition.x - x;
+        int yDelta = nextPosition.y - y;
+
+        if(Math.abs(xDelta) > 1 || Math.abs(yDelta) > 1) throw new InvalidTransformException("Can only create transform from positions next to each other.");
+        if(this.equals(nextPosition)) throw new InvalidTransformException("Cannot create transform with identical positions.");
+
+        return Direction.of(xDelta, yDelta);
+    }
+
     public Function<Position, Position> getPositionTransform(Position nextPosition) {
         int xDelta = nextPosition.x - x;
         int yDelta = nextPosition.y - y;
@@ -59,10 +106,15 @@ public class Position {
         if(xDelta > 1 || yDelta > 1) throw new InvalidTransformException("Can only create transform from positions next to each other.");
         if(this.equals(nextPosition)) throw new InvalidTransformException("Cannot create transform with identical positions.");
 
-        return p -> new Position(p.x + xDelta, p.y + yDelta);
+        if(xDelta < -1 || yDelta < -1) return p -> Position.at(p.x + xDelta, p.y + yDelta);
+        return Direction.of(xDelta, yDelta).transform();
     }
 
     public boolean withinBounds() {
+        return inBounds(x, y);
+    }
+
+    private static boolean inBounds(int x, int y) {
         return x >= 0 && y >= 0 && x < 8 && y < 8;
     }
 }
@@ -0,0 +1,115 @@
+package othello.core;
+
+/**
+ * The eight symmetries of the board as bit operations on 64-bit boards. Symmetry {@code s} mirrors the columns when
+ * bit 0 is set, then mirrors the rows when bit 1 is set, then swaps rows and columns when bit 2 is set. The canonical
+ * form of a position is the orientation with the smallest (own, opponent) pair, compared as unsigned values, and
+ * moves are carried between a position and its canonical form with {@link #toCanonical} and {@link #fromCanonical}.
+ */
+public final class Symmetry {
+
+    public static final int COUNT = 8;
+
+    private static final int[][] SQUARES = new int[COUNT][64];
+    private static final int[] INVERSES = new int[COUNT];
+
+    static {
+        for (int symmetry = 0; symmetry < COUNT; symmetry++) {
+            for (int square = 0; square < 64; square++) {
+                int x = square / 8;
+                int y = square % 8;
+                if ((symmetry & 1) != 0) y = 7 - y;
+                if ((symmetry & 2) != 0) x = 7 - x;
+                SQUARES[symmetry][square] = (symmetry & 4) != 0 ? y * 8 + x : x * 8 + y;
+            }
+        }
+        for (int symmetry = 0; symmetry < COUNT; symmetry++) {
+            for (int candidate = 0; candidate < COUNT; candidate++) {
+                if (SQUARES[candidate][SQUARES[symmetry][1]] == 1 && SQUARES[candidate][SQUARES[symmetry][8]] == 8) {
+                    INVERSES[symmetry] = candidate;
+                }
+            }
+        }
+    }
+
+    private Symmetry() {
+    }
+
+    public static int inverse(int symmetry) {
+        return INVERSES[symmetry];
+    }
+
+    public static int transformSquare(int square, int symmetry) {
+        return SQUARES[symmetry][square];
+    }
+
+    public static Position transform(Position position, int symmetry) {
+        return Position.of(SQUARES[symmetry][position.square()]);
+    }
+
+    public static int toCanonical(int square, int canonicalSymmetry) {
+        return SQUARES[canonicalSymmetry][square];
+    }
+
+    public static int fromCanonical(int canonicalSquare, int canonicalSymmetry) {
+        return SQUARES[INVERSES[canonicalSymmetry]][canonicalSquare];
+    }
+
+    public static long canonicalHash(long own, long opponent) {
+        int symmetry = canonicalSymmetry(own, opponent);
+        return Zobrist.hash(transform(own, symmetry), transform(opponent, symmetry));
+    }
+
+    public static long canonicalHash(Board board, Player toMove) {
+        return canonicalHash(board.pieces(toMove), board.pieces(toMove.opponent()));
+    }
+
+    public static int canonicalSymmetry(Board board, Player toMove) {
+        return canonicalSymmetry(board.pieces(toMove), board.pieces(toMove.opponent()));
+    }
+
+    public static long transform(long board, int symmetry) {
+        if ((symmetry & 1) != 0) board = mirrorColumns(board);
+        if ((symmetry & 2) != 0) board = mirrorRows(board);
+        if ((symmetry & 4) != 0) board = transpose(board);
+        return board;
+    }
+
+    public static int canonicalSymmetry(long own, long opponent) {
+        int best = 0;
+        long bestOwn = own;
+        long bestOpponent = opponent;
+        for (int symmetry = 1; symmetry < COUNT; symmetry++) {
+            long transformedOwn = transform(own, symmetry);
+            int comparison = Long.compareUnsigned(transformedOwn, bestOwn);
+            if (comparison > 0) continue;
+
+            long transformedOpponent = transform(opponent, symmetry);
+            if (comparison < 0 || Long.compareUnsigned(transformedOpponent, bestOpponent) < 0) {
+                best = symmetry;
+                bestOwn = transformedOwn;
+                bestOpponent = transformedOpponent;
+            }
+        }
+        return best;
+    }
+
+    public static long mirrorRows(long board) {
+        return Long.reverseBytes(board);
+    }
+
+    public static long mirrorColumns(long board) {
+        board = ((board >>> 1) & 0x5555555555555555L) | ((board & 0x5555555555555555L) << 1);
+        board = ((board >>> 2) & 0x3333333333333333L) | ((board & 0x3333333333333333L) << 2);
+        return ((board >>> 4) & 0x0F0F0F0F0F0F0F0FL) | ((board & 0x0F0F0F0F0F0F0F0FL) << 4);
+    }
+
+    public static long transpose(long board) {
+        long t = 0x0F0F0F0F00000000L & (board ^ (board << 28));
+        board ^= t ^ (t >>> 28);
+        t = 0x3333000033330000L & (board ^ (board << 14));
+        board ^= t ^ (t >>> 14);
+        t = 0x5500550055005500L & (board ^ (board << 7));
+        return board ^ t ^ (t >>> 7);
+    }
+}
@@ -0,0 +1,51 @@
+package othello.core;
+
+import java.util.SplittableRandom;
+
+public final class Zobrist {
+
+    private static final long[] X_KEYS = new long[64];
+    private static final long[] O_KEYS = new long[64];
+    private static final long[] FLIP_KEYS = new long[64];
+    private static final long O_TO_MOVE;
+
+    static {
+        SplittableRandom random = new SplittableRandom(0x0E11E110L);
+        for (int square = 0; square < 64; square++) {
+            X_KEYS[square] = random.nextLong();
+            O_KEYS[square] = random.nextLong();
+            FLIP_KEYS[square] = X_KEYS[square] ^ O_KEYS[square];
+        }
+        O_TO_MOVE = random.nextLong();
+    }
+
+    private Zobrist() {
+    }
+
+    public static long key(Player player, int square) {
+        return player == Player.X ? X_KEYS[square] : O_KEYS[square];
+    }
+
+    public static long flipKey(long flips) {
+        long key = 0;
+        for (; flips != 0; flips &= flips - 1) {
+            key ^= FLIP_KEYS[Long.numberOfTrailingZeros(flips)];
+        }
+        return key;
+    }
+
+    public static long sideKey(Player player) {
+        return player == Player.O ? O_TO_MOVE : 0;
+    }
+
+    public static long hash(long xPieces, long oPieces) {
+        long hash = 0;
+        for (; xPieces != 0; xPieces &= xPieces - 1) {
+            hash ^= X_KEYS[Long.numberOfTrailingZeros(xPieces)];
+        }
+        for (; oPieces != 0; oPieces &= oPieces - 1) {
+            hash ^= O_KEYS[Long.numberOfTrailingZeros(oPieces)];
+        }
+        return hash;
+    }
+}
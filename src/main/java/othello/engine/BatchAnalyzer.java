@@ -0,0 +1,211 @@
+package othello.engine;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Evaluates or searches batches of positions on a {@link ForkJoinPool}. Positions are packed two longs each, the
+ * pieces of the player to move followed by the opponent's pieces. Every worker thread owns a {@link Searcher}, with
+ * its own board, move buffers and transposition table, which is reused for every position that thread picks up, so a
+ * batch allocates little beyond its result arrays.
+ * <p>
+ * A search batch shares one deadline. Each position is given an even share of the time left, spread over the
+ * positions not yet started and the threads available to search them, and positions not yet started when the deadline
+ * passes are returned unsearched.
+ */
+public class BatchAnalyzer implements AutoCloseable {
+
+    private static final int SEARCH_SPLIT = 4;
+    private static final int EVALUATE_SPLIT = 1024;
+
+    private final Evaluator evaluator;
+    private final int maxDepth;
+    private final int tableSizeMb;
+    private final ForkJoinPool pool;
+    private final int searchThreads;
+    private final Queue<Searcher> spareSearchers = new ConcurrentLinkedQueue<>();
+
+    public BatchAnalyzer(int parallelism) {
+        this(new SimpleEvaluator(), Searcher.MAX_DEPTH, parallelism, TranspositionTable.DEFAULT_SIZE_MB);
+    }
+
+    public BatchAnalyzer(Evaluator evaluator, int maxDepth, int parallelism, int tableSizeMb) {
+        if (parallelism < 1) throw new IllegalArgumentException("At least one analysis thread is required.");
+
+        this.evaluator = evaluator;
+        this.maxDepth = maxDepth;
+        this.tableSizeMb = tableSizeMb;
+        this.pool = new ForkJoinPool(parallelism, pool -> new Worker(pool, newSearcher()), null, false);
+        // threads beyond the available cores add no search time, so they don't earn a position a longer share
+        this.searchThreads = Math.min(parallelism, Runtime.getRuntime().availableProcessors());
+    }
+
+    public int parallelism() {
+        return pool.getParallelism();
+    }
+
+    public int[] evaluate(long[] positions) {
+        int[] scores = new int[count(positions)];
+        pool.invoke(new EvaluateTask(positions, scores, 0, scores.length));
+        return scores;
+    }
+
+    public BatchResult search(long[] positions, long budgetMillis) {
+        long start = System.nanoTime();
+        int count = count(positions);
+        int[] moves = new int[count];
+        int[] scores = new int[count];
+        int[] depths = new int[count];
+        LongAdder nodes = new LongAdder();
+        AtomicInteger searched = new AtomicInteger();
+        AtomicInteger pending = new AtomicInteger(count);
+
+        pool.invoke(new SearchTask(positions, moves, scores, depths, nodes, searched, pending, start + budgetMillis * 1_000_000, 0, count));
+        return new BatchResult(moves, scores, depths, nodes.sum(), searched.get(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    @Override
+    public void close() {
+        pool.shutdownNow();
+        spareSearchers.clear();
+    }
+
+    private Searcher newSearcher() {
+        return new Searcher(evaluator, maxDepth, new TranspositionTable(tableSizeMb));
+    }
+
+    /**
+     * The pool's own workers carry a searcher. A thread outside the pool that ends up running a task while it waits
+     * borrows a spare one for that task, so there are never more spares than callers helping at the same time, and
+     * {@link #close()} lets them go.
+     */
+    private Searcher searcher() {
+        Worker worker = worker();
+        if (worker != null) return worker.searcher;
+        Searcher spare = spareSearchers.poll();
+        return spare != null ? spare : newSearcher();
+    }
+
+    private void release(Searcher searcher) {
+        if (worker() == null) spareSearchers.add(searcher);
+    }
+
+    private Worker worker() {
+        Thread current = Thread.currentThread();
+        return current instanceof Worker && ((Worker) current).getPool() == pool ? (Worker) current : null;
+    }
+
+    private static int count(long[] positions) {
+        if ((positions.length & 1) != 0) throw new IllegalArgumentException("Positions must be packed as pairs of longs.");
+        return positions.length / 2;
+    }
+
+    private static final class Worker extends ForkJoinWorkerThread {
+
+        final Searcher searcher;
+
+        Worker(ForkJoinPool pool, Searcher searcher) {
+            super(pool);
+            this.searcher = searcher;
+            setName("othello-batch-" + getPoolIndex());
+            setDaemon(true);
+        }
+    }
+
+    private final class EvaluateTask extends RecursiveAction {
+
+        private final long[] positions;
+        private final int[] scores;
+        private final int from;
+        private final int to;
+
+        EvaluateTask(long[] positions, int[] scores, int from, int to) {
+            this.positions = positions;
+            this.scores = scores;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > EVALUATE_SPLIT) {
+                int middle = (from + to) >>> 1;
+                invokeAll(new EvaluateTask(positions, scores, from, middle), new EvaluateTask(positions, scores, middle, to));
+                return;
+            }
+            for (int i = from; i < to; i++) {
+                scores[i] = evaluator.evaluate(positions[2 * i], positions[2 * i + 1]);
+            }
+        }
+    }
+
+    private final class SearchTask extends RecursiveAction {
+
+        private final long[] positions;
+        private final int[] moves;
+        private final int[] scores;
+        private final int[] depths;
+        private final LongAdder nodes;
+        private final AtomicInteger searched;
+        private final AtomicInteger pending;
+        private final long deadline;
+        private final int from;
+        private final int to;
+
+        SearchTask(long[] positions, int[] moves, int[] scores, int[] depths, LongAdder nodes, AtomicInteger searched,
+                   AtomicInteger pending, long deadline, int from, int to) {
+            this.positions = positions;
+            this.moves = moves;
+            this.scores = scores;
+            this.depths = depths;
+            this.nodes = nodes;
+            this.searched = searched;
+            this.pending = pending;
+            this.deadline = deadline;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > SEARCH_SPLIT) {
+                int middle = (from + to) >>> 1;
+                invokeAll(split(from, middle), split(middle, to));
+                return;
+            }
+
+            Searcher searcher = searcher();
+            long batchNodes = 0;
+            int batchSearched = 0;
+            try {
+                for (int i = from; i < to; i++) {
+                    moves[i] = BatchResult.NO_MOVE;
+                    int unstarted = pending.getAndDecrement();
+                    long remaining = deadline - System.nanoTime();
+                    if (remaining <= 0) continue;
+
+                    long budget = Math.min(remaining, remaining * searchThreads / unstarted);
+                    SearchResult result = searcher.search(positions[2 * i], positions[2 * i + 1], budget / 1_000_000);
+                    if (result.move != null) moves[i] = result.move.square();
+                    scores[i] = result.score;
+                    depths[i] = result.depth;
+                    batchNodes += result.nodes;
+                    batchSearched++;
+                }
+            } finally {
+                release(searcher);
+            }
+            nodes.add(batchNodes);
+            searched.addAndGet(batchSearched);
+        }
+
+        private SearchTask split(int from, int to) {
+            return new SearchTask(positions, moves, scores, depths, nodes, searched, pending, deadline, from, to);
+        }
+    }
+}
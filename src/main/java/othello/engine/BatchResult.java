@@ -0,0 +1,35 @@
+package othello.engine;
+
+/**
+ * Per-position results of {@link BatchAnalyzer#search}, indexed like the input positions. Positions with no legal move,
+ * and positions the batch deadline passed before reaching, have move {@link #NO_MOVE} and depth {@code 0}.
+ */
+public class BatchResult {
+
+    public static final int NO_MOVE = -1;
+
+    public final int[] moves;
+    public final int[] scores;
+    public final int[] depths;
+    public final long nodes;
+    public final int searched;
+    public final long elapsedMillis;
+
+    BatchResult(int[] moves, int[] scores, int[] depths, long nodes, int searched, long elapsedMillis) {
+        this.moves = moves;
+        this.scores = scores;
+        this.depths = depths;
+        this.nodes = nodes;
+        this.searched = searched;
+        this.elapsedMillis = elapsedMillis;
+    }
+
+    public int size() {
+        return moves.length;
+    }
+
+    @Override
+    public String toString() {
+        return searched + " of " + moves.length + " positions searched, nodes " + nodes + ", " + elapsedMillis + "ms";
+    }
+}
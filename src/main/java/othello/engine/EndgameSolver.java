@@ -0,0 +1,249 @@
+package othello.engine;
+
+import othello.core.Bitboards;
+import othello.core.Board;
+import othello.core.Player;
+import othello.core.Position;
+import othello.core.Zobrist;
+
+/**
+ * Exact solver for positions with few empty squares. Scores are final disc differentials from the point of view of
+ * the player to move. Deep nodes are ordered fastest-first (fewest replies for the opponent), nodes near the leaves
+ * visit empties in odd-parity quadrants first, and the last few empties are played straight from the empty mask
+ * without generating a move list. Nodes with many empties are cached in a {@link TranspositionTable}.
+ */
+public class EndgameSolver {
+
+    public static final int DEFAULT_MAX_EMPTIES = 18;
+
+    private static final int FASTEST_FIRST_EMPTIES = 7;
+    private static final int SHALLOW_EMPTIES = 4;
+    private static final int HASH_EMPTIES = 10;
+
+    private static final long[] QUADRANTS = {
+            0x000000000F0F0F0FL,
+            0x00000000F0F0F0F0L,
+            0x0F0F0F0F00000000L,
+            0xF0F0F0F000000000L
+    };
+
+    private final int maxEmpties;
+    private final TranspositionTable table;
+    private final int[][] moveBuffers = new int[64][64];
+    private final int[][] scoreBuffers = new int[64][64];
+    private long nodes;
+
+    public EndgameSolver() {
+        this(DEFAULT_MAX_EMPTIES);
+    }
+
+    public EndgameSolver(int maxEmpties) {
+        this(maxEmpties, new TranspositionTable());
+    }
+
+    public EndgameSolver(int maxEmpties, TranspositionTable table) {
+        this.maxEmpties = maxEmpties;
+        this.table = table;
+    }
+
+    public SearchResult solve(Board board, Player player) {
+        if (player == Player._) throw new IllegalArgumentException("Cannot solve a finished game.");
+
+        int empties = Long.bitCount(board.pieces(Player._));
+        if (empties > maxEmpties) {
+            throw new IllegalArgumentException("Cannot solve position with " + empties + " empties, limit is " + maxEmpties + ".");
+        }
+
+        long start = System.nanoTime();
+        nodes = 0;
+        table.newSearch();
+        long own = board.pieces(player);
+        long opponent = board.pieces(player.opponent());
+
+        long moves = Bitboards.legalMoves(own, opponent);
+        if (moves == 0) {
+            int score = -solve(opponent, own, -64, 64, true, empties, 0);
+            return new SearchResult(null, score, empties, nodes, elapsedMillis(start));
+        }
+
+        int[] buffer = moveBuffers[0];
+        int count = orderFastestFirst(own, opponent, moves, buffer, scoreBuffers[0]);
+        int alpha = -65;
+        int bestMove = buffer[0];
+        for (int i = 0; i < count; i++) {
+            int square = buffer[i];
+            long flips = Bitboards.flips(own, opponent, square);
+            int score = -solve(opponent & ~flips, own | flips | Bitboards.bit(square), -64, -alpha, false, empties - 1, 1);
+            if (score > alpha) {
+                alpha = score;
+                bestMove = square;
+            }
+        }
+        return new SearchResult(Position.of(bestMove), alpha, empties, nodes, elapsedMillis(start));
+    }
+
+    public boolean canSolve(Board board) {
+        return Long.bitCount(board.pieces(Player._)) <= maxEmpties;
+    }
+
+    private int solve(long own, long opponent, int alpha, int beta, boolean passed, int empties, int ply) {
+        if (empties <= SHALLOW_EMPTIES) return solveShallow(own, opponent, alpha, beta, passed, empties);
+
+        nodes++;
+        long moves = Bitboards.legalMoves(own, opponent);
+        if (moves == 0) {
+            if (passed) return discDifference(own, opponent);
+            return -solve(opponent, own, -beta, -alpha, true, empties, ply);
+        }
+
+        long key = 0;
+        int hashMove = TranspositionTable.NO_MOVE;
+        if (empties >= HASH_EMPTIES) {
+            key = Zobrist.hash(own, opponent);
+            long entry = table.probe(key);
+            if (entry != TranspositionTable.NO_ENTRY) {
+                int score = TranspositionTable.scoreOf(entry);
+                int flag = TranspositionTable.flagOf(entry);
+                if (flag == TranspositionTable.EXACT) return score;
+                if (flag == TranspositionTable.LOWER_BOUND && score >= beta) return score;
+                if (flag == TranspositionTable.UPPER_BOUND && score <= alpha) return score;
+                hashMove = TranspositionTable.moveOf(entry);
+            }
+        }
+
+        int[] buffer = moveBuffers[ply];
+        int count = empties > FASTEST_FIRST_EMPTIES
+                ? orderFastestFirst(own, opponent, moves, buffer, scoreBuffers[ply])
+                : orderByParity(moves, ~(own | opponent), buffer);
+        promote(buffer, count, hashMove);
+
+        int originalAlpha = alpha;
+        int best = -65;
+        int bestMove = TranspositionTable.NO_MOVE;
+        for (int i = 0; i < count; i++) {
+            int square = buffer[i];
+            long flips = Bitboards.flips(own, opponent, square);
+            int score = -solve(opponent & ~flips, own | flips | Bitboards.bit(square), -beta, -alpha, false, empties - 1, ply + 1);
+            if (score > best) {
+                best = score;
+                bestMove = square;
+                if (score > alpha) {
+                    alpha = score;
+                    if (alpha >= beta) break;
+                }
+            }
+        }
+
+        if (empties >= HASH_EMPTIES) {
+            int flag = best >= beta ? TranspositionTable.LOWER_BOUND
+                    : best <= originalAlpha ? TranspositionTable.UPPER_BOUND
+                    : TranspositionTable.EXACT;
+            table.store(key, empties, best, flag, bestMove);
+        }
+        return best;
+    }
+
+    private static void promote(int[] moves, int count, int move) {
+        for (int i = 1; i < count; i++) {
+            if (moves[i] == move) {
+                System.arraycopy(moves, 0, moves, 1, i);
+                moves[0] = move;
+                return;
+            }
+        }
+    }
+
+    private int solveShallow(long own, long opponent, int alpha, int beta, boolean passed, int empties) {
+        if (empties == 1) return solveLastEmpty(own, opponent);
+
+        nodes++;
+        long empty = ~(own | opponent);
+        long oddEmpties = 0;
+        for (long quadrant : QUADRANTS) {
+            if ((Long.bitCount(empty & quadrant) & 1) != 0) oddEmpties |= empty & quadrant;
+        }
+
+        int best = -65;
+        for (int pass = 0; pass < 2; pass++) {
+            for (long squares = pass == 0 ? oddEmpties : empty & ~oddEmpties; squares != 0; squares &= squares - 1) {
+                int square = Long.numberOfTrailingZeros(squares);
+                long flips = Bitboards.flips(own, opponent, square);
+                if (flips == 0) continue;
+
+                int score = -solveShallow(opponent & ~flips, own | flips | Bitboards.bit(square), -beta, -alpha, false, empties - 1);
+                if (score > best) {
+                    best = score;
+                    if (score > alpha) {
+                        alpha = score;
+                        if (alpha >= beta) return best;
+                    }
+                }
+            }
+        }
+
+        if (best == -65) {
+            if (passed) return discDifference(own, opponent);
+            return -solveShallow(opponent, own, -beta, -alpha, true, empties);
+        }
+        return best;
+    }
+
+    private int solveLastEmpty(long own, long opponent) {
+        nodes++;
+        int square = Long.numberOfTrailingZeros(~(own | opponent));
+
+        long flips = Bitboards.flips(own, opponent, square);
+        if (flips != 0) return discDifference(own | flips | Bitboards.bit(square), opponent & ~flips);
+
+        flips = Bitboards.flips(opponent, own, square);
+        if (flips != 0) return discDifference(own & ~flips, opponent | flips | Bitboards.bit(square));
+
+        return discDifference(own, opponent);
+    }
+
+    private static int orderFastestFirst(long own, long opponent, long moves, int[] buffer, int[] scores) {
+        int count = 0;
+        for (; moves != 0; moves &= moves - 1) {
+            int square = Long.numberOfTrailingZeros(moves);
+            long flips = Bitboards.flips(own, opponent, square);
+            long replies = Bitboards.legalMoves(opponent & ~flips, own | flips | Bitboards.bit(square));
+
+            int score = -16 * Long.bitCount(replies) - Long.bitCount(replies & Searcher.CORNERS) * 32;
+            if ((Bitboards.bit(square) & Searcher.CORNERS) != 0) score += 8;
+
+            int i = count++;
+            while (i > 0 && scores[i - 1] < score) {
+                buffer[i] = buffer[i - 1];
+                scores[i] = scores[i - 1];
+                i--;
+            }
+            buffer[i] = square;
+            scores[i] = score;
+        }
+        return count;
+    }
+
+    private static int orderByParity(long moves, long empty, int[] buffer) {
+        long oddMoves = 0;
+        for (long quadrant : QUADRANTS) {
+            if ((Long.bitCount(empty & quadrant) & 1) != 0) oddMoves |= moves & quadrant;
+        }
+
+        int count = 0;
+        for (long squares = oddMoves; squares != 0; squares &= squares - 1) {
+            buffer[count++] = Long.numberOfTrailingZeros(squares);
+        }
+        for (long squares = moves & ~oddMoves; squares != 0; squares &= squares - 1) {
+            buffer[count++] = Long.numberOfTrailingZeros(squares);
+        }
+        return count;
+    }
+
+    private static int discDifference(long own, long opponent) {
+        return Long.bitCount(own) - Long.bitCount(opponent);
+    }
+
+    private static long elapsedMillis(long start) {
+        return (System.nanoTime() - start) / 1_000_000;
+    }
+}
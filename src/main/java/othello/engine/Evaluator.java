@@ -0,0 +1,5 @@
+package othello.engine;
+
+public interface Evaluator {
+    int evaluate(long own, long opponent);
+}
@@ -0,0 +1,103 @@
+package othello.engine;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import othello.book.OpeningBook;
+import othello.core.Board;
+import othello.core.Othello;
+import othello.core.Player;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Lazy SMP: every thread runs its own {@link Searcher} over the same root and they cooperate only through a shared
+ * {@link TranspositionTable}. Helpers start at staggered depths with rotated root moves so they fill the table with
+ * different subtrees; the calling thread's result is the one returned. With one thread no pool is created and the
+ * search is identical to a plain {@link Searcher}.
+ */
+public class ParallelSearcher implements AutoCloseable {
+
+    private final TranspositionTable table;
+    private final Searcher[] searchers;
+    private final ExecutorService helpers;
+    private OpeningBook book;
+
+    public ParallelSearcher(int threads) {
+        this(new SimpleEvaluator(), Searcher.MAX_DEPTH, threads, new TranspositionTable(TranspositionTable.DEFAULT_SIZE_MB * threads));
+    }
+
+    public ParallelSearcher(Evaluator evaluator, int maxDepth, int threads, TranspositionTable table) {
+        if (threads < 1) throw new IllegalArgumentException("At least one search thread is required.");
+
+        this.table = table;
+        this.searchers = new Searcher[threads];
+        for (int i = 0; i < threads; i++) {
+            searchers[i] = new Searcher(evaluator, maxDepth, table);
+        }
+        this.helpers = threads == 1 ? null : Executors.newFixedThreadPool(threads - 1,
+                new ThreadFactoryBuilder().setNameFormat("othello-search-%d").setDaemon(true).build());
+    }
+
+    public SearchResult search(Othello othello, long budgetMillis) {
+        return search(othello.getBoard(), othello.whoseTurn(), budgetMillis);
+    }
+
+    public void setOpeningBook(OpeningBook book) {
+        this.book = book;
+    }
+
+    public SearchResult search(Board board, Player player, long budgetMillis) {
+        SearchResult bookResult = Searcher.lookup(book, board, player);
+        if (bookResult != null) return bookResult;
+        if (helpers == null) return searchers[0].search(board, player, budgetMillis);
+
+        long start = System.nanoTime();
+        table.newSearch();
+
+        List<Future<SearchResult>> futures = new ArrayList<>(searchers.length - 1);
+        for (int i = 1; i < searchers.length; i++) {
+            Searcher helper = searchers[i];
+            int index = i;
+            helper.reset();
+            futures.add(helpers.submit(() -> helper.iterate(board, player, budgetMillis, index)));
+        }
+
+        searchers[0].reset();
+        SearchResult main = searchers[0].iterate(board, player, budgetMillis, 0);
+
+        long nodes = main.nodes;
+        for (int i = 1; i < searchers.length; i++) {
+            searchers[i].stop();
+        }
+        for (Future<SearchResult> future : futures) {
+            nodes += await(future).nodes;
+        }
+
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+        return new SearchResult(main.move, main.score, main.depth, nodes, elapsedMillis);
+    }
+
+    public int threads() {
+        return searchers.length;
+    }
+
+    @Override
+    public void close() {
+        if (helpers != null) helpers.shutdownNow();
+    }
+
+    private static SearchResult await(Future<SearchResult> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for search threads.", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Search thread failed.", e.getCause());
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package othello.engine;
+
+/**
+ * Square groups scored together by {@link PatternEvaluator}. Each pattern is listed once, in one orientation, and the
+ * evaluator scores every distinct rotation and reflection of it against the same weight table. A configuration is
+ * read as a base-3 number with square {@code i} as digit {@code i}, holding {@code 0} for empty, {@code 1} for the
+ * player to move and {@code 2} for the opponent. The squares are ordered so that {@link PatternEvaluator} can gather
+ * each pattern's bits with a few shifts and masks.
+ */
+public enum Pattern {
+
+    EDGE_2X(0, 1, 2, 3, 4, 5, 6, 7, 9, 14),
+    CORNER_3X3(0, 1, 2, 8, 9, 10, 16, 17, 18),
+    CORNER_2X5(0, 1, 2, 3, 4, 8, 9, 10, 11, 12),
+    LINE_2(8, 9, 10, 11, 12, 13, 14, 15),
+    LINE_3(16, 17, 18, 19, 20, 21, 22, 23),
+    LINE_4(24, 25, 26, 27, 28, 29, 30, 31),
+    DIAGONAL_8(0, 9, 18, 27, 36, 45, 54, 63),
+    DIAGONAL_7(1, 10, 19, 28, 37, 46, 55),
+    DIAGONAL_6(2, 11, 20, 29, 38, 47),
+    DIAGONAL_5(3, 12, 21, 30, 39),
+    DIAGONAL_4(4, 13, 22, 31);
+
+    private final int[] squares;
+    private final int configurations;
+
+    Pattern(int... squares) {
+        this.squares = squares;
+        int configurations = 1;
+        for (int i = 0; i < squares.length; i++) {
+            configurations *= 3;
+        }
+        this.configurations = configurations;
+    }
+
+    public int size() {
+        return squares.length;
+    }
+
+    public int square(int i) {
+        return squares[i];
+    }
+
+    public int configurations() {
+        return configurations;
+    }
+}
@@ -0,0 +1,186 @@
+package othello.engine;
+
+import othello.core.Bitboards;
+import othello.core.Symmetry;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Sums table weights for every orientation of every {@link Pattern}, plus a mobility term, using the weights for the
+ * current game stage. Rather than walking each pattern instance square by square, the evaluator builds the eight
+ * orientations of the board once and reads each pattern from its base squares with a few shifts and masks (or a
+ * multiply for diagonals). The gathered bits are turned into a base-3 index with one table load per side, so an
+ * evaluation is a fixed sequence of bit operations and table loads with no allocation.
+ */
+public class PatternEvaluator implements Evaluator {
+
+    static final int[][] INSTANCES;
+    static final Pattern[] INSTANCE_PATTERNS;
+
+    private static final int[] ORIENTATION_PATTERNS = new int[Symmetry.COUNT];
+    private static final int[] TERNARY = new int[1 << 10];
+
+    private static final int EDGE_2X = 1 << Pattern.EDGE_2X.ordinal();
+    private static final int CORNER_3X3 = 1 << Pattern.CORNER_3X3.ordinal();
+    private static final int CORNER_2X5 = 1 << Pattern.CORNER_2X5.ordinal();
+    private static final int LINES = 1 << Pattern.LINE_2.ordinal() | 1 << Pattern.LINE_3.ordinal() | 1 << Pattern.LINE_4.ordinal();
+    private static final int DIAGONAL_8 = 1 << Pattern.DIAGONAL_8.ordinal();
+    private static final int SHORT_DIAGONALS = 1 << Pattern.DIAGONAL_7.ordinal() | 1 << Pattern.DIAGONAL_6.ordinal()
+            | 1 << Pattern.DIAGONAL_5.ordinal() | 1 << Pattern.DIAGONAL_4.ordinal();
+
+    private static final long COLUMN_SPREAD = 0x0101010101010101L;
+    private static final long[] DIAGONAL_MASKS = new long[5];
+
+    private static final int EDGE_2X_OFFSET = offset(Pattern.EDGE_2X);
+    private static final int CORNER_3X3_OFFSET = offset(Pattern.CORNER_3X3);
+    private static final int CORNER_2X5_OFFSET = offset(Pattern.CORNER_2X5);
+    private static final int LINE_2_OFFSET = offset(Pattern.LINE_2);
+    private static final int LINE_3_OFFSET = offset(Pattern.LINE_3);
+    private static final int LINE_4_OFFSET = offset(Pattern.LINE_4);
+    private static final int DIAGONAL_8_OFFSET = offset(Pattern.DIAGONAL_8);
+    private static final int DIAGONAL_7_OFFSET = offset(Pattern.DIAGONAL_7);
+    private static final int DIAGONAL_6_OFFSET = offset(Pattern.DIAGONAL_6);
+    private static final int DIAGONAL_5_OFFSET = offset(Pattern.DIAGONAL_5);
+    private static final int DIAGONAL_4_OFFSET = offset(Pattern.DIAGONAL_4);
+
+    static {
+        for (int shift = 0; shift < DIAGONAL_MASKS.length; shift++) {
+            for (int row = 0; row + shift < 8; row++) {
+                DIAGONAL_MASKS[shift] |= Bitboards.bit(Bitboards.square(row, row + shift));
+            }
+        }
+        for (int bits = 0; bits < TERNARY.length; bits++) {
+            int power = 1;
+            for (int i = 0; i < 10; i++) {
+                if ((bits & (1 << i)) != 0) TERNARY[bits] += power;
+                power *= 3;
+            }
+        }
+
+        // Orientation t reads the base squares of the board transformed by t, which are the squares
+        // inverse(t) maps the base squares to on the original board. Orientations whose squares
+        // repeat an earlier instance of the same pattern are skipped.
+        List<int[]> instances = new ArrayList<>();
+        List<Pattern> instancePatterns = new ArrayList<>();
+        for (Pattern pattern : Pattern.values()) {
+            List<Long> seen = new ArrayList<>();
+            for (int orientation = 0; orientation < Symmetry.COUNT; orientation++) {
+                int[] squares = new int[pattern.size()];
+                long mask = 0;
+                for (int i = 0; i < squares.length; i++) {
+                    squares[i] = Symmetry.transformSquare(pattern.square(i), Symmetry.inverse(orientation));
+                    mask |= Bitboards.bit(squares[i]);
+                }
+                if (seen.contains(mask)) continue;
+                seen.add(mask);
+                instances.add(squares);
+                instancePatterns.add(pattern);
+                ORIENTATION_PATTERNS[orientation] |= 1 << pattern.ordinal();
+            }
+        }
+        INSTANCES = instances.toArray(new int[0][]);
+        INSTANCE_PATTERNS = instancePatterns.toArray(new Pattern[0]);
+    }
+
+    private final PatternWeights weights;
+
+    public PatternEvaluator() {
+        this(PatternWeights.fromSquareWeights());
+    }
+
+    public PatternEvaluator(PatternWeights weights) {
+        this.weights = weights;
+    }
+
+    @Override
+    public int evaluate(long own, long opponent) {
+        int stage = weights.stage(Long.bitCount(own | opponent));
+        short[] table = weights.table(stage);
+
+        long ownColumns = Symmetry.mirrorColumns(own);
+        long opponentColumns = Symmetry.mirrorColumns(opponent);
+        long ownRows = Symmetry.mirrorRows(own);
+        long opponentRows = Symmetry.mirrorRows(opponent);
+        long ownBoth = Symmetry.mirrorRows(ownColumns);
+        long opponentBoth = Symmetry.mirrorRows(opponentColumns);
+
+        int score = score(table, own, opponent, ORIENTATION_PATTERNS[0])
+                + score(table, ownColumns, opponentColumns, ORIENTATION_PATTERNS[1])
+                + score(table, ownRows, opponentRows, ORIENTATION_PATTERNS[2])
+                + score(table, ownBoth, opponentBoth, ORIENTATION_PATTERNS[3])
+                + score(table, Symmetry.transpose(own), Symmetry.transpose(opponent), ORIENTATION_PATTERNS[4])
+                + score(table, Symmetry.transpose(ownColumns), Symmetry.transpose(opponentColumns), ORIENTATION_PATTERNS[5])
+                + score(table, Symmetry.transpose(ownRows), Symmetry.transpose(opponentRows), ORIENTATION_PATTERNS[6])
+                + score(table, Symmetry.transpose(ownBoth), Symmetry.transpose(opponentBoth), ORIENTATION_PATTERNS[7]);
+
+        int ownMobility = Long.bitCount(Bitboards.legalMoves(own, opponent));
+        int opponentMobility = Long.bitCount(Bitboards.legalMoves(opponent, own));
+        return score + weights.mobility(stage) * (ownMobility - opponentMobility);
+    }
+
+    public static int instanceCount() {
+        return INSTANCES.length;
+    }
+
+    private static int score(short[] table, long own, long opponent, int patterns) {
+        int score = 0;
+        if ((patterns & CORNER_2X5) != 0) {
+            score += table[CORNER_2X5_OFFSET + index(cornerBlock(own), cornerBlock(opponent))];
+        }
+        if ((patterns & CORNER_3X3) != 0) {
+            score += table[CORNER_3X3_OFFSET + index(corner(own), corner(opponent))];
+        }
+        if ((patterns & EDGE_2X) != 0) {
+            score += table[EDGE_2X_OFFSET + index(edge(own), edge(opponent))];
+        }
+        if ((patterns & LINES) != 0) {
+            score += table[LINE_2_OFFSET + index(row(own, 1), row(opponent, 1))]
+                    + table[LINE_3_OFFSET + index(row(own, 2), row(opponent, 2))]
+                    + table[LINE_4_OFFSET + index(row(own, 3), row(opponent, 3))];
+        }
+        if ((patterns & DIAGONAL_8) != 0) {
+            score += table[DIAGONAL_8_OFFSET + index(diagonal(own, 0), diagonal(opponent, 0))];
+        }
+        if ((patterns & SHORT_DIAGONALS) != 0) {
+            score += table[DIAGONAL_7_OFFSET + index(diagonal(own, 1), diagonal(opponent, 1))]
+                    + table[DIAGONAL_6_OFFSET + index(diagonal(own, 2), diagonal(opponent, 2))]
+                    + table[DIAGONAL_5_OFFSET + index(diagonal(own, 3), diagonal(opponent, 3))]
+                    + table[DIAGONAL_4_OFFSET + index(diagonal(own, 4), diagonal(opponent, 4))];
+        }
+        return score;
+    }
+
+    private static int index(int own, int opponent) {
+        return TERNARY[own] + 2 * TERNARY[opponent];
+    }
+
+    private static int edge(long board) {
+        return (int) (board & 0xFF) | (int) (board >>> 1 & 0x100) | (int) (board >>> 5 & 0x200);
+    }
+
+    private static int corner(long board) {
+        return (int) (board & 0x7) | (int) (board >>> 5 & 0x38) | (int) (board >>> 10 & 0x1C0);
+    }
+
+    private static int cornerBlock(long board) {
+        return (int) (board & 0x1F) | (int) (board >>> 3 & 0x3E0);
+    }
+
+    private static int row(long board, int row) {
+        return (int) (board >>> (row * 8)) & 0xFF;
+    }
+
+    /**
+     * Squares {@code (r, r + shift)} of the diagonal starting in column {@code shift}, as bits {@code 0..7 - shift}.
+     * Every row holds at most one diagonal square and each sits in a different column, so multiplying by
+     * {@link #COLUMN_SPREAD} stacks them into the top byte without carries.
+     */
+    private static int diagonal(long board, int shift) {
+        return (int) ((board & DIAGONAL_MASKS[shift]) * COLUMN_SPREAD >>> (56 + shift));
+    }
+
+    private static int offset(Pattern pattern) {
+        return PatternWeights.TABLE_OFFSETS[pattern.ordinal()];
+    }
+}
@@ -0,0 +1,150 @@
+package othello.engine;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Weight tables for {@link PatternEvaluator}, split into game stages by disc count. Each stage holds a mobility weight
+ * followed by one table per {@link Pattern}, in declaration order, laid out end to end in a single {@code short[]}.
+ * Weight files use the same layout, big-endian:
+ * <pre>
+ * header   "OTHW" version(1) reserved(3) stageCount(4)
+ * stage    mobility(2) weights(2 * sum of pattern configurations)
+ * </pre>
+ */
+public class PatternWeights {
+
+    static final int MAGIC = 0x4F544857;
+    static final byte VERSION = 1;
+
+    static final int[] TABLE_OFFSETS = new int[Pattern.values().length];
+    static final int STAGE_SIZE;
+
+    static {
+        int offset = 0;
+        for (Pattern pattern : Pattern.values()) {
+            TABLE_OFFSETS[pattern.ordinal()] = offset;
+            offset += pattern.configurations();
+        }
+        STAGE_SIZE = offset;
+    }
+
+    private final short[][] tables;
+    private final int[] mobility;
+
+    public PatternWeights(int stages) {
+        if (stages < 1 || stages > 61) throw new IllegalArgumentException("Stage count must be between 1 and 61.");
+        this.tables = new short[stages][STAGE_SIZE];
+        this.mobility = new int[stages];
+    }
+
+    public int stages() {
+        return tables.length;
+    }
+
+    /**
+     * Boards with fewer than the four starting discs, which setups and loaded positions can produce, share the first
+     * stage.
+     */
+    public int stage(int discs) {
+        return Math.max(0, Math.min(tables.length - 1, (discs - 4) * tables.length / 61));
+    }
+
+    public short weight(int stage, Pattern pattern, int configuration) {
+        return tables[stage][TABLE_OFFSETS[pattern.ordinal()] + configuration];
+    }
+
+    public void setWeight(int stage, Pattern pattern, int configuration, int weight) {
+        tables[stage][TABLE_OFFSETS[pattern.ordinal()] + configuration] = clamp(weight);
+    }
+
+    public int mobility(int stage) {
+        return mobility[stage];
+    }
+
+    public void setMobility(int stage, int weight) {
+        mobility[stage] = clamp(weight);
+    }
+
+    short[] table(int stage) {
+        return tables[stage];
+    }
+
+    /**
+     * Untrained weights that spread {@link SimpleEvaluator}'s square weights over the patterns covering each square,
+     * so a pattern evaluator without a weight file plays roughly like the simple one.
+     */
+    public static PatternWeights fromSquareWeights() {
+        int[] coverage = new int[64];
+        for (int[] instance : PatternEvaluator.INSTANCES) {
+            for (int square : instance) {
+                coverage[square]++;
+            }
+        }
+
+        PatternWeights weights = new PatternWeights(1);
+        for (Pattern pattern : Pattern.values()) {
+            for (int configuration = 0; configuration < pattern.configurations(); configuration++) {
+                int weight = 0;
+                int remaining = configuration;
+                for (int i = 0; i < pattern.size(); i++) {
+                    int square = pattern.square(i);
+                    int share = Math.round((float) SimpleEvaluator.SQUARE_WEIGHTS[square] / coverage[square]);
+                    int state = remaining % 3;
+                    weight += state == 1 ? share : state == 2 ? -share : 0;
+                    remaining /= 3;
+                }
+                weights.setWeight(0, pattern, configuration, weight);
+            }
+        }
+        weights.setMobility(0, SimpleEvaluator.MOBILITY_WEIGHT);
+        return weights;
+    }
+
+    public static PatternWeights load(Path path) throws IOException {
+        try (DataInputStream input = new DataInputStream(new BufferedInputStream(Files.newInputStream(path), 1 << 16))) {
+            if (input.readInt() != MAGIC || input.readByte() != VERSION) throw new IOException("Not a pattern weight file, bad header.");
+            input.skipBytes(3);
+            int stages = input.readInt();
+            if (stages < 1 || stages > 61) throw new IOException("Pattern weight file has " + stages + " stages.");
+
+            PatternWeights weights = new PatternWeights(stages);
+            for (int stage = 0; stage < stages; stage++) {
+                weights.mobility[stage] = input.readShort();
+                short[] table = weights.tables[stage];
+                for (int i = 0; i < table.length; i++) {
+                    table[i] = input.readShort();
+                }
+            }
+            if (input.read() != -1) throw new IOException("Pattern weight file has trailing data.");
+            return weights;
+        } catch (EOFException e) {
+            throw new IOException("Pattern weight file is truncated.", e);
+        }
+    }
+
+    public void save(Path path) throws IOException {
+        try (DataOutputStream output = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(path), 1 << 16))) {
+            output.writeInt(MAGIC);
+            output.writeByte(VERSION);
+            output.write(new byte[3]);
+            output.writeInt(tables.length);
+            for (int stage = 0; stage < tables.length; stage++) {
+                output.writeShort(mobility[stage]);
+                for (short weight : tables[stage]) {
+                    output.writeShort(weight);
+                }
+            }
+        }
+    }
+
+    private static short clamp(int weight) {
+        return (short) Math.max(Short.MIN_VALUE, Math.min(Short.MAX_VALUE, weight));
+    }
+}
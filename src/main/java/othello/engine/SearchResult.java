@@ -0,0 +1,29 @@
+package othello.engine;
+
+import othello.core.Position;
+
+public class SearchResult {
+
+    public final Position move;
+    public final int score;
+    public final int depth;
+    public final long nodes;
+    public final long elapsedMillis;
+
+    public SearchResult(Position move, int score, int depth, long nodes, long elapsedMillis) {
+        this.move = move;
+        this.score = score;
+        this.depth = depth;
+        this.nodes = nodes;
+        this.elapsedMillis = elapsedMillis;
+    }
+
+    public long nodesPerSecond() {
+        return elapsedMillis == 0 ? nodes * 1000 : nodes * 1000 / elapsedMillis;
+    }
+
+    @Override
+    public String toString() {
+        return "move " + move + ", score " + score + ", depth " + depth + ", nodes " + nodes + ", " + elapsedMillis + "ms";
+    }
+}
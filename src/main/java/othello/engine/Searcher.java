@@ -0,0 +1,281 @@
+package othello.engine;
+
+import othello.book.OpeningBook;
+import othello.core.Bitboards;
+import othello.core.Board;
+import othello.core.Othello;
+import othello.core.Player;
+import othello.core.Position;
+
+/**
+ * Negamax alpha-beta search with iterative deepening. A searcher keeps reusable per-ply buffers, so it should be
+ * confined to a single thread and reused across searches. When an {@link OpeningBook} is set, positions found in the
+ * book are answered from it without searching.
+ */
+public class Searcher {
+
+    public static final int INFINITY = 1_000_000;
+    public static final int WIN = 100_000;
+    public static final int MAX_DEPTH = 60;
+
+    static final long CORNERS = 0x8100000000000081L;
+    static final long C_SQUARES = 0x4281000000008142L;
+    static final long X_SQUARES = 0x0042000000004200L;
+    static final long OTHER_SQUARES = ~(CORNERS | C_SQUARES | X_SQUARES);
+
+    private static final int MAX_PLY = 128;
+    private static final int ORDERING_DEPTH = 3;
+    private static final int TIME_CHECK_INTERVAL = 1024;
+
+    private final Evaluator evaluator;
+    private final int maxDepth;
+    private final TranspositionTable table;
+
+    private final int[][] moveBuffers = new int[MAX_PLY][64];
+    private final int[][] scoreBuffers = new int[MAX_PLY][64];
+
+    private final Board board = new Board();
+
+    private OpeningBook book;
+    private long nodes;
+    private long deadline;
+    private boolean abortable;
+    private boolean aborted;
+    private volatile boolean stopped;
+
+    public Searcher() {
+        this(new SimpleEvaluator(), MAX_DEPTH);
+    }
+
+    public Searcher(Evaluator evaluator, int maxDepth) {
+        this(evaluator, maxDepth, new TranspositionTable());
+    }
+
+    public Searcher(Evaluator evaluator, int maxDepth, TranspositionTable table) {
+        this.evaluator = evaluator;
+        this.maxDepth = Math.min(maxDepth, MAX_DEPTH);
+        this.table = table;
+    }
+
+    public SearchResult search(Othello othello, long budgetMillis) {
+        return search(othello.getBoard(), othello.whoseTurn(), budgetMillis);
+    }
+
+    public void setOpeningBook(OpeningBook book) {
+        this.book = book;
+    }
+
+    /**
+     * Searches a position given as bitboards from the point of view of the player to move, reusing this searcher's
+     * board rather than building a new one.
+     */
+    public SearchResult search(long own, long opponent, long budgetMillis) {
+        board.load(own, opponent);
+        return search(board, Player.X, budgetMillis);
+    }
+
+    public SearchResult search(Board position, Player player, long budgetMillis) {
+        SearchResult bookResult = lookup(book, position, player);
+        if (bookResult != null) return bookResult;
+
+        stopped = false;
+        table.newSearch();
+        return iterate(position, player, budgetMillis, 0);
+    }
+
+    public void stop() {
+        stopped = true;
+    }
+
+    void reset() {
+        stopped = false;
+    }
+
+    SearchResult iterate(Board position, Player player, long budgetMillis, int helper) {
+        long start = System.nanoTime();
+        deadline = start + budgetMillis * 1_000_000;
+        board.load(position.pieces(Player.X), position.pieces(Player.O));
+        nodes = 0;
+        abortable = helper > 0;
+        aborted = false;
+
+        if (player == Player._ || !board.validMovesRemain(player)) {
+            return new SearchResult(null, 0, 0, 0, elapsedMillis(start));
+        }
+
+        int[] rootMoves = moveBuffers[0];
+        int count = orderMoves(player, board.legalMoves(player), 0);
+        if (helper > 0) rotate(rootMoves, count, helper % count);
+        int bestMove = rootMoves[0];
+        int bestScore = -INFINITY;
+        int completedDepth = 0;
+        int empties = Long.bitCount(board.pieces(Player._));
+
+        for (int depth = 1 + (helper & 1); depth <= maxDepth; depth++) {
+            int alpha = -INFINITY;
+            int iterationBest = 0;
+
+            for (int i = 0; i < count; i++) {
+                board.makeMove(player, rootMoves[i]);
+                int score = -negamax(player.opponent(), depth - 1, -INFINITY, -alpha, 1, false);
+                board.undoMove();
+
+                if (aborted) break;
+                if (score > alpha) {
+                    alpha = score;
+                    iterationBest = i;
+                }
+            }
+            if (aborted) break;
+
+            moveToFront(rootMoves, iterationBest);
+            bestMove = rootMoves[0];
+            bestScore = alpha;
+            completedDepth = depth;
+            abortable = true;
+
+            if (Math.abs(bestScore) >= WIN || depth >= empties) break;
+        }
+
+        return new SearchResult(Position.of(bestMove), bestScore, completedDepth, nodes, elapsedMillis(start));
+    }
+
+    private int negamax(Player player, int depth, int alpha, int beta, int ply, boolean passed) {
+        if ((++nodes & (TIME_CHECK_INTERVAL - 1)) == 0 && abortable && (stopped || System.nanoTime() > deadline)) {
+            aborted = true;
+        }
+        if (aborted) return 0;
+
+        long own = board.pieces(player);
+        long opponent = board.pieces(player.opponent());
+        if (depth == 0) return evaluator.evaluate(own, opponent);
+
+        long key = board.hash(player);
+        int hashMove = TranspositionTable.NO_MOVE;
+        long entry = table.probe(key);
+        if (entry != TranspositionTable.NO_ENTRY) {
+            hashMove = TranspositionTable.moveOf(entry);
+            if (TranspositionTable.depthOf(entry) >= depth) {
+                int score = TranspositionTable.scoreOf(entry);
+                int flag = TranspositionTable.flagOf(entry);
+                if (flag == TranspositionTable.EXACT) return score;
+                if (flag == TranspositionTable.LOWER_BOUND && score >= beta) return score;
+                if (flag == TranspositionTable.UPPER_BOUND && score <= alpha) return score;
+            }
+        }
+
+        long moves = Bitboards.legalMoves(own, opponent);
+        if (moves == 0) {
+            if (passed) return finalScore(own, opponent);
+            return -negamax(player.opponent(), depth, -beta, -alpha, ply + 1, true);
+        }
+
+        int[] buffer = moveBuffers[ply];
+        int count = depth >= ORDERING_DEPTH ? orderMoves(player, moves, ply) : bucketMoves(moves, buffer);
+        promote(buffer, count, hashMove);
+
+        int originalAlpha = alpha;
+        int best = -INFINITY;
+        int bestMove = TranspositionTable.NO_MOVE;
+        for (int i = 0; i < count; i++) {
+            board.makeMove(player, buffer[i]);
+            int score = -negamax(player.opponent(), depth - 1, -beta, -alpha, ply + 1, false);
+            board.undoMove();
+
+            if (aborted) return 0;
+            if (score > best) {
+                best = score;
+                bestMove = buffer[i];
+                if (score > alpha) {
+                    alpha = score;
+                    if (alpha >= beta) break;
+                }
+            }
+        }
+
+        int flag = best >= beta ? TranspositionTable.LOWER_BOUND
+                : best <= originalAlpha ? TranspositionTable.UPPER_BOUND
+                : TranspositionTable.EXACT;
+        table.store(key, depth, best, flag, bestMove);
+        return best;
+    }
+
+    static SearchResult lookup(OpeningBook book, Board position, Player player) {
+        if (book == null || player == Player._) return null;
+
+        long start = System.nanoTime();
+        Position move = book.lookup(position, player);
+        return move == null ? null : new SearchResult(move, 0, 0, 0, elapsedMillis(start));
+    }
+
+    static int finalScore(long own, long opponent) {
+        int difference = Long.bitCount(own) - Long.bitCount(opponent);
+        if (difference > 0) return WIN + difference;
+        if (difference < 0) return -WIN + difference;
+        return 0;
+    }
+
+    private int orderMoves(Player player, long moves, int ply) {
+        int[] buffer = moveBuffers[ply];
+        int[] scores = scoreBuffers[ply];
+        long own = board.pieces(player);
+        long opponent = board.pieces(player.opponent());
+
+        int count = 0;
+        for (; moves != 0; moves &= moves - 1) {
+            int square = Long.numberOfTrailingZeros(moves);
+            long flips = Bitboards.flips(own, opponent, square);
+            long opponentMoves = Bitboards.legalMoves(opponent & ~flips, own | flips | Bitboards.bit(square));
+
+            int score = SimpleEvaluator.SQUARE_WEIGHTS[square] - 16 * Long.bitCount(opponentMoves);
+            int i = count++;
+            while (i > 0 && scores[i - 1] < score) {
+                buffer[i] = buffer[i - 1];
+                scores[i] = scores[i - 1];
+                i--;
+            }
+            buffer[i] = square;
+            scores[i] = score;
+        }
+        return count;
+    }
+
+    static int bucketMoves(long moves, int[] buffer) {
+        int count = appendMoves(moves & CORNERS, buffer, 0);
+        count = appendMoves(moves & OTHER_SQUARES, buffer, count);
+        count = appendMoves(moves & C_SQUARES, buffer, count);
+        return appendMoves(moves & X_SQUARES, buffer, count);
+    }
+
+    private static int appendMoves(long moves, int[] buffer, int count) {
+        for (; moves != 0; moves &= moves - 1) {
+            buffer[count++] = Long.numberOfTrailingZeros(moves);
+        }
+        return count;
+    }
+
+    private static void promote(int[] moves, int count, int move) {
+        for (int i = 1; i < count; i++) {
+            if (moves[i] == move) {
+                moveToFront(moves, i);
+                return;
+            }
+        }
+    }
+
+    private static void rotate(int[] moves, int count, int distance) {
+        for (int i = 0; i < distance; i++) {
+            moveToFront(moves, count - 1);
+        }
+    }
+
+    private static void moveToFront(int[] moves, int index) {
+        int move = moves[index];
+        System.arraycopy(moves, 0, moves, 1, index);
+        moves[0] = move;
+    }
+
+    private static long elapsedMillis(long start) {
+        return (System.nanoTime() - start) / 1_000_000;
+    }
+}
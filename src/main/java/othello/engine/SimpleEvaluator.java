@@ -0,0 +1,34 @@
+package othello.engine;
+
+import othello.core.Bitboards;
+
+public class SimpleEvaluator implements Evaluator {
+
+    static final int[] SQUARE_WEIGHTS = {
+            100, -20, 10,  5,  5, 10, -20, 100,
+            -20, -50, -2, -2, -2, -2, -50, -20,
+             10,  -2, -1, -1, -1, -1,  -2,  10,
+              5,  -2, -1, -1, -1, -1,  -2,   5,
+              5,  -2, -1, -1, -1, -1,  -2,   5,
+             10,  -2, -1, -1, -1, -1,  -2,  10,
+            -20, -50, -2, -2, -2, -2, -50, -20,
+            100, -20, 10,  5,  5, 10, -20, 100
+    };
+
+    static final int MOBILITY_WEIGHT = 10;
+
+    @Override
+    public int evaluate(long own, long opponent) {
+        int score = 0;
+        for (long pieces = own; pieces != 0; pieces &= pieces - 1) {
+            score += SQUARE_WEIGHTS[Long.numberOfTrailingZeros(pieces)];
+        }
+        for (long pieces = opponent; pieces != 0; pieces &= pieces - 1) {
+            score -= SQUARE_WEIGHTS[Long.numberOfTrailingZeros(pieces)];
+        }
+
+        int ownMobility = Long.bitCount(Bitboards.legalMoves(own, opponent));
+        int opponentMobility = Long.bitCount(Bitboards.legalMoves(opponent, own));
+        return score + MOBILITY_WEIGHT * (ownMobility - opponentMobility);
+    }
+}
@@ -0,0 +1,109 @@
+package othello.engine;
+
+import java.util.Arrays;
+
+/**
+ * Fixed-size transposition table held in a single {@code long[]}. Each bucket has a depth-preferred slot and an
+ * always-replace slot, and each slot stores {@code key ^ data} next to {@code data}. Readers recompute the key from
+ * both words, so entries torn by concurrent writers are rejected instead of being locked against.
+ */
+public class TranspositionTable {
+
+    public static final int DEFAULT_SIZE_MB = 16;
+
+    public static final int EXACT = 0;
+    public static final int LOWER_BOUND = 1;
+    public static final int UPPER_BOUND = 2;
+
+    public static final long NO_ENTRY = 0;
+    public static final int NO_MOVE = 64;
+
+    private static final int LONGS_PER_BUCKET = 4;
+    private static final long VALID = 1L << 63;
+    private static final long MAX_BUCKETS = 1L << 28;
+
+    private final long[] table;
+    private final int bucketMask;
+    private volatile int generation;
+
+    public TranspositionTable() {
+        this(DEFAULT_SIZE_MB);
+    }
+
+    public TranspositionTable(int sizeInMegabytes) {
+        long buckets = Long.highestOneBit(Math.max(1, (long) sizeInMegabytes * 1024 * 1024 / (LONGS_PER_BUCKET * 8)));
+        buckets = Math.min(buckets, MAX_BUCKETS);
+        this.table = new long[(int) buckets * LONGS_PER_BUCKET];
+        this.bucketMask = (int) buckets - 1;
+    }
+
+    public void newSearch() {
+        generation = (generation + 1) & 0xFF;
+    }
+
+    public void clear() {
+        Arrays.fill(table, 0);
+    }
+
+    public long probe(long key) {
+        int index = bucket(key);
+        for (int slot = index; slot < index + LONGS_PER_BUCKET; slot += 2) {
+            long data = table[slot + 1];
+            if ((table[slot] ^ data) == key && data != NO_ENTRY) return data;
+        }
+        return NO_ENTRY;
+    }
+
+    public void store(long key, int depth, int score, int flag, int move) {
+        int index = bucket(key);
+        long data = pack(depth, score, flag, move, generation);
+
+        long preferredData = table[index + 1];
+        boolean sameKey = (table[index] ^ preferredData) == key;
+        if (preferredData == NO_ENTRY || sameKey || generationOf(preferredData) != generation
+                || depth >= depthOf(preferredData)) {
+            table[index] = key ^ data;
+            table[index + 1] = data;
+        } else {
+            table[index + 2] = key ^ data;
+            table[index + 3] = data;
+        }
+    }
+
+    public int capacity() {
+        return table.length / 2;
+    }
+
+    public static int scoreOf(long data) {
+        return (int) data;
+    }
+
+    public static int depthOf(long data) {
+        return (int) (data >>> 32) & 0xFF;
+    }
+
+    public static int flagOf(long data) {
+        return (int) (data >>> 40) & 0x3;
+    }
+
+    public static int moveOf(long data) {
+        return (int) (data >>> 42) & 0x7F;
+    }
+
+    static int generationOf(long data) {
+        return (int) (data >>> 49) & 0xFF;
+    }
+
+    private static long pack(int depth, int score, int flag, int move, int generation) {
+        return VALID
+                | ((long) generation << 49)
+                | ((long) move << 42)
+                | ((long) flag << 40)
+                | ((long) depth << 32)
+                | (score & 0xFFFFFFFFL);
+    }
+
+    private int bucket(long key) {
+        return ((int) (key ^ (key >>> 32)) & bucketMask) * LONGS_PER_BUCKET;
+    }
+}
@@ -0,0 +1,26 @@
+package othello.record;
+
+/**
+ * Layout of a game record file, all multi-byte values big-endian:
+ * <pre>
+ * header   "OTHR" version(1) reserved(3)
+ * game     moveCount(1) xScore(1) oScore(1) square(1) * moveCount
+ * index    offset(8) * gameCount
+ * footer   indexOffset(8) gameCount(4) "OTHI"
+ * </pre>
+ * Squares are {@code x * 8 + y}, as returned by {@link othello.core.Position#square()}. Forced passes are not
+ * recorded; replaying through {@link othello.core.Othello} reproduces them.
+ */
+final class GameRecordFormat {
+
+    static final int MAGIC = 0x4F544852;
+    static final int INDEX_MAGIC = 0x4F544849;
+    static final byte VERSION = 1;
+
+    static final int HEADER_SIZE = 8;
+    static final int GAME_HEADER_SIZE = 3;
+    static final int FOOTER_SIZE = 16;
+
+    private GameRecordFormat() {
+    }
+}
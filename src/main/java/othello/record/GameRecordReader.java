@@ -0,0 +1,115 @@
+package othello.record;
+
+import othello.core.Othello;
+import othello.core.Position;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import static othello.record.GameRecordFormat.*;
+
+/**
+ * Reads a game record file through read-only memory mappings. Games are looked up through the index at the end of
+ * the file, so any game can be read or replayed without scanning the ones before it.
+ * <p>
+ * A single mapping is limited to 2GB, so the file is mapped in regions. Each region runs on past its end by more than
+ * the largest game record, so any game or index entry can be read from the region it starts in.
+ */
+public class GameRecordReader implements Closeable {
+
+    private static final int REGION_BITS = 30;
+    private static final int REGION_OVERLAP = 512;
+
+    private final FileChannel channel;
+    private final MappedByteBuffer[] regions;
+    private final int regionBits;
+    private final long regionMask;
+    private final long indexOffset;
+    private final int gameCount;
+
+    public GameRecordReader(Path path) throws IOException {
+        this(path, REGION_BITS);
+    }
+
+    GameRecordReader(Path path, int regionBits) throws IOException {
+        this.channel = FileChannel.open(path, StandardOpenOption.READ);
+        this.regionBits = regionBits;
+        this.regionMask = (1L << regionBits) - 1;
+        long size = channel.size();
+        if (size < HEADER_SIZE + FOOTER_SIZE) throw new IOException("Not a game record file, too short.");
+
+        this.regions = new MappedByteBuffer[(int) ((size - 1 >>> regionBits) + 1)];
+        for (int i = 0; i < regions.length; i++) {
+            long start = (long) i << regionBits;
+            regions[i] = channel.map(FileChannel.MapMode.READ_ONLY, start, Math.min(regionMask + 1 + REGION_OVERLAP, size - start));
+        }
+        if (getInt(0) != MAGIC || get(4) != VERSION) throw new IOException("Not a game record file, bad header.");
+
+        long footer = size - FOOTER_SIZE;
+        if (getInt(footer + 12) != INDEX_MAGIC) throw new IOException("Game record file has no index, was it closed?");
+        this.indexOffset = getLong(footer);
+        this.gameCount = getInt(footer + 8);
+    }
+
+    public int gameCount() {
+        return gameCount;
+    }
+
+    public int moveCount(int game) {
+        return get(offset(game)) & 0xFF;
+    }
+
+    public int xScore(int game) {
+        return get(offset(game) + 1) & 0xFF;
+    }
+
+    public int oScore(int game) {
+        return get(offset(game) + 2) & 0xFF;
+    }
+
+    public int move(int game, int ply) {
+        return get(offset(game) + GAME_HEADER_SIZE + ply);
+    }
+
+    public void replay(int game, Othello othello) {
+        long offset = offset(game);
+        MappedByteBuffer region = region(offset);
+        int local = (int) (offset & regionMask);
+        int moveCount = region.get(local) & 0xFF;
+
+        othello.newGame();
+        for (int ply = 0; ply < moveCount; ply++) {
+            othello.placePiece(Position.of(region.get(local + GAME_HEADER_SIZE + ply)));
+        }
+    }
+
+    private long offset(int game) {
+        if (game < 0 || game >= gameCount) throw new IndexOutOfBoundsException("No game " + game + ", file has " + gameCount + ".");
+        return getLong(indexOffset + game * 8L);
+    }
+
+    private MappedByteBuffer region(long offset) {
+        return regions[(int) (offset >>> regionBits)];
+    }
+
+    private byte get(long offset) {
+        return region(offset).get((int) (offset & regionMask));
+    }
+
+    private int getInt(long offset) {
+        return region(offset).getInt((int) (offset & regionMask));
+    }
+
+    private long getLong(long offset) {
+        return region(offset).getLong((int) (offset & regionMask));
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+}
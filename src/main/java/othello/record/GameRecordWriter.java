@@ -0,0 +1,58 @@
+package othello.record;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import static othello.record.GameRecordFormat.*;
+
+public class GameRecordWriter implements Closeable {
+
+    private final DataOutputStream output;
+    private long[] offsets = new long[1024];
+    private int gameCount;
+    private long position;
+
+    public GameRecordWriter(Path path) throws IOException {
+        this.output = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(path), 1 << 16));
+        output.writeInt(MAGIC);
+        output.writeByte(VERSION);
+        output.write(new byte[3]);
+        position = HEADER_SIZE;
+    }
+
+    public void write(GameResult result) throws IOException {
+        write(result.moves, result.moves.length, result.xScore, result.oScore);
+    }
+
+    public void write(byte[] moves, int moveCount, int xScore, int oScore) throws IOException {
+        if (gameCount == offsets.length) offsets = Arrays.copyOf(offsets, offsets.length * 2);
+        offsets[gameCount++] = position;
+
+        output.writeByte(moveCount);
+        output.writeByte(xScore);
+        output.writeByte(oScore);
+        output.write(moves, 0, moveCount);
+        position += GAME_HEADER_SIZE + moveCount;
+    }
+
+    public int gameCount() {
+        return gameCount;
+    }
+
+    @Override
+    public void close() throws IOException {
+        long indexOffset = position;
+        for (int i = 0; i < gameCount; i++) {
+            output.writeLong(offsets[i]);
+        }
+        output.writeLong(indexOffset);
+        output.writeInt(gameCount);
+        output.writeInt(INDEX_MAGIC);
+        output.close();
+    }
+}
@@ -0,0 +1,48 @@
+package othello.record;
+
+import othello.core.Notation;
+import othello.core.Player;
+
+public class GameResult {
+
+    public final byte[] moves;
+    public final int xScore;
+    public final int oScore;
+
+    public GameResult(byte[] moves, int xScore, int oScore) {
+        this.moves = moves;
+        this.xScore = xScore;
+        this.oScore = oScore;
+    }
+
+    public static GameResult parse(String line) {
+        String[] fields = line.trim().split(" ");
+        if (fields.length != 4 || fields[0].length() % 2 != 0) {
+            throw new IllegalArgumentException("Not a game record: " + line);
+        }
+
+        String transcript = fields[0];
+        byte[] moves = new byte[transcript.length() / 2];
+        for (int i = 0; i < moves.length; i++) {
+            int square = Notation.square(transcript.charAt(i * 2), transcript.charAt(i * 2 + 1));
+            if (square < 0) throw new IllegalArgumentException("Not a game record: " + line);
+            moves[i] = (byte) square;
+        }
+        return new GameResult(moves, Integer.parseInt(fields[2]), Integer.parseInt(fields[3]));
+    }
+
+    public Player winner() {
+        return xScore > oScore ? Player.X : oScore > xScore ? Player.O : Player._;
+    }
+
+    public String toLine() {
+        StringBuilder line = new StringBuilder(moves.length * 2 + 12);
+        for (byte move : moves) {
+            line.append(Notation.format(move));
+        }
+        return line.append(' ').append(winner() == Player._ ? "-" : winner().name())
+                .append(' ').append(xScore)
+                .append(' ').append(oScore)
+                .toString();
+    }
+}
@@ -0,0 +1,28 @@
+package othello.selfplay;
+
+import othello.core.Board;
+import othello.core.MoveIterator;
+import othello.core.Player;
+import othello.core.Position;
+
+import java.util.SplittableRandom;
+
+public class RandomStrategy implements Strategy {
+
+    private final SplittableRandom random;
+    private final MoveIterator moves = new MoveIterator();
+
+    public RandomStrategy(long seed) {
+        this.random = new SplittableRandom(seed);
+    }
+
+    @Override
+    public Position chooseMove(Board board, Player player) {
+        long legalMoves = board.legalMoves(player);
+        moves.reset(legalMoves);
+        for (int skip = random.nextInt(Long.bitCount(legalMoves)); skip > 0; skip--) {
+            moves.nextSquare();
+        }
+        return moves.nextPosition();
+    }
+}
@@ -0,0 +1,24 @@
+package othello.selfplay;
+
+import othello.core.Board;
+import othello.core.Player;
+import othello.core.Position;
+import othello.engine.Searcher;
+import othello.engine.SimpleEvaluator;
+import othello.engine.TranspositionTable;
+
+public class SearchStrategy implements Strategy {
+
+    private final Searcher searcher;
+    private final long budgetMillis;
+
+    public SearchStrategy(int maxDepth, long budgetMillis) {
+        this.searcher = new Searcher(new SimpleEvaluator(), maxDepth, new TranspositionTable(4));
+        this.budgetMillis = budgetMillis;
+    }
+
+    @Override
+    public Position chooseMove(Board board, Player player) {
+        return searcher.search(board, player, budgetMillis).move;
+    }
+}
@@ -0,0 +1,168 @@
+package othello.selfplay;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import othello.core.Othello;
+import othello.core.Player;
+import othello.core.Position;
+import othello.record.GameRecordWriter;
+import othello.record.GameResult;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Plays games between two strategies on a pool of worker threads. Text output has one line per finished game:
+ * the moves in column-row notation, the winner ({@code X}, {@code O} or {@code -}) and both final scores; an
+ * output file ending in {@code .otr} is written as a binary game record instead.
+ * Strategies are created per worker thread, so they do not need to be thread-safe.
+ */
+public class SelfPlayRunner {
+
+    private final Supplier<Strategy> xStrategies;
+    private final Supplier<Strategy> oStrategies;
+    private final int threads;
+
+    public SelfPlayRunner(Supplier<Strategy> xStrategies, Supplier<Strategy> oStrategies, int threads) {
+        if (threads < 1) throw new IllegalArgumentException("At least one worker thread is required.");
+
+        this.xStrategies = xStrategies;
+        this.oStrategies = oStrategies;
+        this.threads = threads;
+    }
+
+    public SelfPlaySummary run(int games, Path output) throws IOException {
+        try (BufferedWriter writer = Files.newBufferedWriter(output, StandardCharsets.US_ASCII)) {
+            return run(games, writer);
+        }
+    }
+
+    public SelfPlaySummary run(int games, Writer output) {
+        return run(games, result -> {
+            try {
+                output.write(result.toLine());
+                output.write('\n');
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    public SelfPlaySummary run(int games, Consumer<GameResult> results) {
+        long start = System.nanoTime();
+        AtomicInteger nextGame = new AtomicInteger();
+        AtomicInteger xWins = new AtomicInteger();
+        AtomicInteger oWins = new AtomicInteger();
+
+        ExecutorService workers = Executors.newFixedThreadPool(threads,
+                new ThreadFactoryBuilder().setNameFormat("othello-selfplay-%d").setDaemon(true).build());
+        try {
+            List<Future<?>> futures = new ArrayList<>(threads);
+            for (int i = 0; i < threads; i++) {
+                futures.add(workers.submit(() -> {
+                    Strategy x = xStrategies.get();
+                    Strategy o = oStrategies.get();
+                    Othello othello = new Othello();
+
+                    while (nextGame.getAndIncrement() < games) {
+                        GameResult result = play(othello, x, o);
+                        if (result.winner() == Player.X) xWins.incrementAndGet();
+                        if (result.winner() == Player.O) oWins.incrementAndGet();
+                        synchronized (results) {
+                            results.accept(result);
+                        }
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                await(future);
+            }
+        } finally {
+            workers.shutdownNow();
+        }
+
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+        return new SelfPlaySummary(games, xWins.get(), oWins.get(), games - xWins.get() - oWins.get(), elapsedMillis);
+    }
+
+    public static GameResult play(Othello othello, Strategy x, Strategy o) {
+        byte[] moves = new byte[60];
+        int count = 0;
+
+        othello.newGame();
+        while (othello.whoseTurn() != Player._) {
+            Player player = othello.whoseTurn();
+            Position move = (player == Player.X ? x : o).chooseMove(othello.getBoard(), player);
+            othello.placePiece(move);
+            moves[count++] = (byte) move.square();
+        }
+        return new GameResult(Arrays.copyOf(moves, count), othello.score(Player.X), othello.score(Player.O));
+    }
+
+    private static void await(Future<?> future) {
+        try {
+            future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for self-play workers.", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof UncheckedIOException) throw (UncheckedIOException) e.getCause();
+            throw new IllegalStateException("Self-play worker failed.", e.getCause());
+        }
+    }
+
+    static Supplier<Strategy> strategy(String name, AtomicLong seeds) {
+        if (name.equals("random")) return () -> new RandomStrategy(seeds.incrementAndGet());
+        if (name.startsWith("search:")) {
+            long budgetMillis = Long.parseLong(name.substring("search:".length()));
+            return () -> new SearchStrategy(60, budgetMillis);
+        }
+        throw new IllegalArgumentException("Unknown strategy " + name + ", expected random or search:<millis>.");
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.out.println("Usage: SelfPlayRunner <games> <output file> [threads] [x strategy] [o strategy]");
+            System.out.println("Strategies: random (default), search:<millis per move>");
+            return;
+        }
+
+        int games = Integer.parseInt(args[0]);
+        Path output = Paths.get(args[1]);
+        int threads = args.length > 2 ? Integer.parseInt(args[2]) : Runtime.getRuntime().availableProcessors();
+        AtomicLong seeds = new AtomicLong(args.length > 5 ? Long.parseLong(args[5]) : System.nanoTime());
+        Supplier<Strategy> x = strategy(args.length > 3 ? args[3] : "random", seeds);
+        Supplier<Strategy> o = strategy(args.length > 4 ? args[4] : "random", seeds);
+
+        SelfPlayRunner runner = new SelfPlayRunner(x, o, threads);
+        if (output.toString().endsWith(".otr")) {
+            try (GameRecordWriter writer = new GameRecordWriter(output)) {
+                System.out.println(runner.run(games, result -> {
+                    try {
+                        writer.write(result);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                }));
+            }
+        } else {
+            System.out.println(runner.run(games, output));
+        }
+    }
+}
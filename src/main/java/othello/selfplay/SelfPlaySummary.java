@@ -0,0 +1,23 @@
+package othello.selfplay;
+
+public class SelfPlaySummary {
+
+    public final int games;
+    public final int xWins;
+    public final int oWins;
+    public final int draws;
+    public final long elapsedMillis;
+
+    public SelfPlaySummary(int games, int xWins, int oWins, int draws, long elapsedMillis) {
+        this.games = games;
+        this.xWins = xWins;
+        this.oWins = oWins;
+        this.draws = draws;
+        this.elapsedMillis = elapsedMillis;
+    }
+
+    @Override
+    public String toString() {
+        return games + " games in " + elapsedMillis + "ms: X won " + xWins + ", O won " + oWins + ", " + draws + " drawn";
+    }
+}
@@ -0,0 +1,9 @@
+package othello.selfplay;
+
+import othello.core.Board;
+import othello.core.Player;
+import othello.core.Position;
+
+public interface Strategy {
+    Position chooseMove(Board board, Player player);
+}
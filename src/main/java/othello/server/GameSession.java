@@ -0,0 +1,75 @@
+package othello.server;
+
+import othello.core.BoardSnapshot;
+import othello.core.Othello;
+
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+
+/**
+ * One game, confined to whichever worker is draining its mailbox. Commands are queued and run one at a time in
+ * submission order, so the {@link Othello} inside is never touched by two threads at once and needs no lock. At most
+ * one drain is scheduled per session, and a drain hands the worker back after a batch so busy games cannot starve
+ * the rest.
+ */
+public class GameSession {
+
+    private static final int BATCH = 64;
+
+    private final String id;
+    private final Othello othello = new Othello();
+    private final Executor workers;
+    private final Queue<Runnable> mailbox = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean scheduled = new AtomicBoolean();
+
+    GameSession(String id, Executor workers) {
+        this.id = id;
+        this.workers = workers;
+        othello.newGame();
+    }
+
+    public String id() {
+        return id;
+    }
+
+    /**
+     * The game's latest published state, readable from any thread without going through the mailbox.
+     */
+    public BoardSnapshot snapshot() {
+        return othello.snapshot();
+    }
+
+    public <T> CompletableFuture<T> submit(Function<Othello, T> command) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        mailbox.add(() -> {
+            try {
+                result.complete(command.apply(othello));
+            } catch (Throwable e) {
+                result.completeExceptionally(e);
+            }
+        });
+        schedule();
+        return result;
+    }
+
+    private void schedule() {
+        if (scheduled.compareAndSet(false, true)) workers.execute(this::drain);
+    }
+
+    private void drain() {
+        try {
+            for (int i = 0; i < BATCH; i++) {
+                Runnable command = mailbox.poll();
+                if (command == null) break;
+                command.run();
+            }
+        } finally {
+            scheduled.set(false);
+            if (!mailbox.isEmpty()) schedule();
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package othello.server;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import othello.core.Board;
+import othello.core.Notation;
+import othello.core.Othello;
+import othello.core.Player;
+import othello.core.Position;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Hosts many concurrent games keyed by id and answers the line protocol used by {@link SessionServer}:
+ * <pre>
+ * new                 OK &lt;id&gt;
+ * move &lt;id&gt; &lt;square&gt;  OK &lt;board&gt; &lt;to move&gt; &lt;X score&gt; &lt;O score&gt;
+ * undo &lt;id&gt;           OK &lt;board&gt; &lt;to move&gt; &lt;X score&gt; &lt;O score&gt;
+ * state &lt;id&gt;          OK &lt;board&gt; &lt;to move&gt; &lt;X score&gt; &lt;O score&gt;
+ * end &lt;id&gt;            OK
+ * </pre>
+ * Squares are written like {@code d3}. The board is 64 characters of {@code X}, {@code O} and {@code -}, row by row,
+ * and {@code -} to move means the game is over. Failures are answered with {@code ERR <message>}. Games live in a
+ * concurrent map and each one runs its commands through its own {@link GameSession}, so games never wait on each
+ * other.
+ */
+public class SessionManager implements AutoCloseable {
+
+    private final ConcurrentMap<String, GameSession> sessions = new ConcurrentHashMap<>();
+    private final AtomicLong ids = new AtomicLong();
+    private final ExecutorService workers;
+
+    public SessionManager(int threads) {
+        if (threads < 1) throw new IllegalArgumentException("At least one session thread is required.");
+        this.workers = Executors.newFixedThreadPool(threads,
+                new ThreadFactoryBuilder().setNameFormat("othello-session-%d").setDaemon(true).build());
+    }
+
+    public GameSession create() {
+        GameSession session = new GameSession(Long.toString(ids.incrementAndGet()), workers);
+        sessions.put(session.id(), session);
+        return session;
+    }
+
+    public GameSession get(String id) {
+        return sessions.get(id);
+    }
+
+    public boolean remove(String id) {
+        return sessions.remove(id) != null;
+    }
+
+    public int size() {
+        return sessions.size();
+    }
+
+    public CompletableFuture<String> handle(String line) {
+        String[] words = line.trim().split("\\s+");
+        String command = words[0].toLowerCase();
+
+        if (command.equals("new") && words.length == 1) {
+            return CompletableFuture.completedFuture("OK " + create().id());
+        }
+        if (words.length < 2) return error("Unknown command: " + line.trim() + ".");
+
+        GameSession session = sessions.get(words[1]);
+        if (session == null) return error("No game with id " + words[1] + ".");
+
+        switch (command) {
+            case "move":
+                if (words.length != 3) return error("Usage: move <id> <square>.");
+                int square = Notation.parse(words[2].toLowerCase());
+                if (square < 0) return error(words[2] + " is not a square.");
+                return respond(session.submit(othello -> {
+                    othello.placePiece(Position.of(square));
+                    return state(othello);
+                }));
+
+            case "undo":
+                return respond(session.submit(othello -> {
+                    othello.undoMove();
+                    return state(othello);
+                }));
+
+            case "state":
+                return respond(session.submit(SessionManager::state));
+
+            case "end":
+                sessions.remove(words[1]);
+                return CompletableFuture.completedFuture("OK");
+
+            default:
+                return error("Unknown command: " + line.trim() + ".");
+        }
+    }
+
+    @Override
+    public void close() {
+        workers.shutdownNow();
+    }
+
+    static String state(Othello othello) {
+        Board board = othello.getBoard();
+        StringBuilder state = new StringBuilder(80).append("OK ").append(board.toCompactString());
+        Player toMove = othello.whoseTurn();
+        return state.append(' ').append(toMove == Player._ ? "-" : toMove.name())
+                .append(' ').append(board.discCount(Player.X))
+                .append(' ').append(board.discCount(Player.O))
+                .toString();
+    }
+
+    private static CompletableFuture<String> respond(CompletableFuture<String> result) {
+        return result.exceptionally(e -> "ERR " + (e instanceof CompletionException ? e.getCause() : e).getMessage());
+    }
+
+    private static CompletableFuture<String> error(String message) {
+        return CompletableFuture.completedFuture("ERR " + message);
+    }
+}
@@ -0,0 +1,224 @@
+package othello.server;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Non-blocking line server in front of a {@link SessionManager}. One selector thread accepts connections, reads
+ * commands and writes replies; commands themselves run on the manager's session workers, so a slow game never stalls
+ * the selector. Replies on a connection come back in the order its commands were sent, even when they address
+ * different games. {@code quit} closes the connection once earlier replies have been written.
+ */
+public class SessionServer implements AutoCloseable {
+
+    private static final int MAX_LINE = 1024;
+    private static final ByteBuffer CLOSE = ByteBuffer.allocate(0);
+
+    private final SessionManager sessions;
+    private final Selector selector;
+    private final ServerSocketChannel server;
+    private final Queue<Connection> writable = new ConcurrentLinkedQueue<>();
+    private final Thread thread;
+    private volatile boolean running = true;
+
+    public SessionServer(SessionManager sessions, int port) throws IOException {
+        this(sessions, new InetSocketAddress(InetAddress.getLoopbackAddress(), port));
+    }
+
+    public SessionServer(SessionManager sessions, InetSocketAddress address) throws IOException {
+        this.sessions = sessions;
+        this.selector = Selector.open();
+        this.server = ServerSocketChannel.open();
+        server.bind(address);
+        server.configureBlocking(false);
+        server.register(selector, SelectionKey.OP_ACCEPT);
+
+        this.thread = new Thread(this::run, "othello-server");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    public int port() throws IOException {
+        return ((InetSocketAddress) server.getLocalAddress()).getPort();
+    }
+
+    @Override
+    public void close() throws IOException {
+        running = false;
+        selector.wakeup();
+        try {
+            thread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void run() {
+        try {
+            while (running) {
+                selector.select();
+                for (Connection connection = writable.poll(); connection != null; connection = writable.poll()) {
+                    if (connection.key.isValid()) connection.key.interestOps(SelectionKey.OP_READ | SelectionKey.OP_WRITE);
+                }
+
+                Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+                while (keys.hasNext()) {
+                    SelectionKey key = keys.next();
+                    keys.remove();
+                    try {
+                        if (key.isAcceptable()) accept();
+                        if (key.isValid() && key.isReadable()) ((Connection) key.attachment()).read();
+                        if (key.isValid() && key.isWritable()) ((Connection) key.attachment()).write();
+                    } catch (IOException e) {
+                        key.cancel();
+                        try {
+                            key.channel().close();
+                        } catch (IOException ignored) {
+                        }
+                    }
+                }
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("Session server failed.", e);
+        } finally {
+            for (SelectionKey key : selector.keys()) {
+                try {
+                    key.channel().close();
+                } catch (IOException ignored) {
+                }
+            }
+            try {
+                selector.close();
+            } catch (IOException ignored) {
+            }
+        }
+    }
+
+    private void accept() throws IOException {
+        SocketChannel channel = server.accept();
+        if (channel == null) return;
+        channel.configureBlocking(false);
+        SelectionKey key = channel.register(selector, SelectionKey.OP_READ);
+        key.attach(new Connection(key, channel));
+    }
+
+    private final class Connection {
+
+        private final SelectionKey key;
+        private final SocketChannel channel;
+        private final ByteBuffer input = ByteBuffer.allocate(4096);
+        private final StringBuilder line = new StringBuilder();
+        private final Queue<ByteBuffer> output = new ConcurrentLinkedQueue<>();
+        private CompletableFuture<Void> lastReply = CompletableFuture.completedFuture(null);
+        private boolean quitting;
+        private boolean overlong;
+
+        Connection(SelectionKey key, SocketChannel channel) {
+            this.key = key;
+            this.channel = channel;
+        }
+
+        void read() throws IOException {
+            input.clear();
+            if (channel.read(input) < 0) {
+                close();
+                return;
+            }
+            input.flip();
+            while (input.hasRemaining()) {
+                char c = (char) (input.get() & 0xFF);
+                if (c == '\n') {
+                    if (overlong) reject("ERR Command longer than " + MAX_LINE + " characters.");
+                    else handle(line.toString().trim());
+                    line.setLength(0);
+                    overlong = false;
+                } else if (c != '\r') {
+                    if (line.length() < MAX_LINE) line.append(c);
+                    else overlong = true;
+                }
+            }
+        }
+
+        void write() throws IOException {
+            for (ByteBuffer buffer = output.peek(); buffer != null; buffer = output.peek()) {
+                if (buffer == CLOSE) {
+                    close();
+                    return;
+                }
+                channel.write(buffer);
+                if (buffer.hasRemaining()) return;
+                output.poll();
+            }
+            key.interestOps(SelectionKey.OP_READ);
+        }
+
+        private void handle(String command) {
+            if (command.isEmpty() || quitting) return;
+
+            if (command.equalsIgnoreCase("quit")) {
+                quitting = true;
+                lastReply = lastReply.thenRun(() -> sendAndClose("BYE"));
+                return;
+            }
+
+            CompletableFuture<String> reply = sessions.handle(command);
+            lastReply = lastReply.thenCompose(ignored -> reply).thenAccept(this::send);
+        }
+
+        private void reject(String error) {
+            if (quitting) return;
+            lastReply = lastReply.thenRun(() -> send(error));
+        }
+
+        private void send(String reply) {
+            queue(encode(reply));
+        }
+
+        /**
+         * Queues the reply followed by the close marker, so the selector closes the connection only after writing it.
+         */
+        private void sendAndClose(String reply) {
+            output.add(encode(reply));
+            queue(CLOSE);
+        }
+
+        private void queue(ByteBuffer buffer) {
+            output.add(buffer);
+            writable.add(this);
+            selector.wakeup();
+        }
+
+        private ByteBuffer encode(String reply) {
+            return ByteBuffer.wrap((reply + "\n").getBytes(StandardCharsets.US_ASCII));
+        }
+
+        private void close() throws IOException {
+            key.cancel();
+            channel.close();
+        }
+    }
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        if (args.length < 1) {
+            System.out.println("Usage: SessionServer <port> [threads]");
+            return;
+        }
+
+        int threads = args.length > 1 ? Integer.parseInt(args[1]) : Runtime.getRuntime().availableProcessors();
+        SessionManager sessions = new SessionManager(threads);
+        SessionServer server = new SessionServer(sessions, Integer.parseInt(args[0]));
+        System.out.println("Serving games on port " + server.port() + ".");
+        server.thread.join();
+    }
+}
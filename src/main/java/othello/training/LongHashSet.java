@@ -0,0 +1,46 @@
+package othello.training;
+
+/**
+ * Open-addressing set of non-zero 64-bit values in a single {@code long[]} sized up front, so memory use is fixed
+ * by the maximum number of values it has to hold.
+ */
+class LongHashSet {
+
+    private final long[] slots;
+    private final int mask;
+    private final int maxSize;
+    private int size;
+
+    LongHashSet(int maxSize) {
+        int capacity = Integer.highestOneBit(Math.max(2, (int) Math.min(1 << 30, maxSize * 4L / 3)) - 1) << 1;
+        this.slots = new long[capacity];
+        this.mask = capacity - 1;
+        this.maxSize = Math.min(maxSize, capacity / 4 * 3);
+    }
+
+    boolean add(long value) {
+        if (value == 0) value = 1;
+
+        int index = (int) mix(value) & mask;
+        while (slots[index] != 0) {
+            if (slots[index] == value) return false;
+            index = (index + 1) & mask;
+        }
+        if (size == maxSize) throw new IllegalStateException("Deduplication set is full, it holds at most " + maxSize + " positions.");
+
+        slots[index] = value;
+        size++;
+        return true;
+    }
+
+    int size() {
+        return size;
+    }
+
+    private static long mix(long value) {
+        value ^= value >>> 33;
+        value *= 0xFF51AFD7ED558CCDL;
+        value ^= value >>> 33;
+        return value;
+    }
+}
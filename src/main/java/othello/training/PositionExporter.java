@@ -0,0 +1,187 @@
+package othello.training;
+
+import othello.core.Board;
+import othello.core.Player;
+import othello.core.Symmetry;
+import othello.core.Zobrist;
+import othello.record.GameRecordReader;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Replays games through {@link Board#makeMove} and writes every position not seen before as a fixed-width record:
+ * <pre>
+ * own(8) opponent(8) sideToMove(1) result(1) discDifference(1)
+ * </pre>
+ * Boards are stored from the point of view of the player to move, in the canonical orientation chosen by
+ * {@link Symmetry#canonicalSymmetry}, so rotations and reflections of a position are exported once. The result
+ * ({@code 1}, {@code 0} or {@code -1}) and final disc difference are also from the point of view of the player to
+ * move. The number of games consumed is kept in a {@code .progress} file beside the output, together with a hash of
+ * their moves; reopening the same output rebuilds the seen set from the records already written and continues from
+ * there. Resuming an export checks that the archive starts with the same games, so a different or regenerated
+ * archive is rejected rather than having its first games silently skipped.
+ */
+public class PositionExporter implements Closeable {
+
+    public static final int RECORD_SIZE = 19;
+
+    private static final int MAX_PLIES = 64;
+    private static final int CHECKPOINT_INTERVAL = 10_000;
+    private static final long HASH_OFFSET = 0xCBF29CE484222325L;
+    private static final long HASH_PRIME = 0x100000001B3L;
+
+    private final Path progressPath;
+    private final OutputStream output;
+    private final LongHashSet seen;
+    private final Board board = new Board();
+    private final long[] owns = new long[MAX_PLIES];
+    private final long[] opponents = new long[MAX_PLIES];
+    private final Player[] players = new Player[MAX_PLIES];
+    private final byte[] record = new byte[RECORD_SIZE];
+    private final ByteBuffer recordBuffer = ByteBuffer.wrap(record);
+    private long gamesConsumed;
+    private long gamesHash = HASH_OFFSET;
+    private long positionsWritten;
+
+    public PositionExporter(Path output, int maxPositions) throws IOException {
+        this.progressPath = output.resolveSibling(output.getFileName() + ".progress");
+        this.seen = new LongHashSet(maxPositions);
+
+        if (Files.exists(output)) resume(output);
+        this.output = new BufferedOutputStream(Files.newOutputStream(output,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND), 1 << 16);
+    }
+
+    public long gamesConsumed() {
+        return gamesConsumed;
+    }
+
+    public long positionsWritten() {
+        return positionsWritten;
+    }
+
+    public void export(GameRecordReader games) throws IOException {
+        byte[] moves = new byte[MAX_PLIES];
+        if (gamesConsumed > games.gameCount() || gamesConsumed > 0 && prefixHash(games, moves) != gamesHash) {
+            throw new IOException("Archive does not start with the " + gamesConsumed + " games already exported.");
+        }
+
+        for (long game = gamesConsumed; game < games.gameCount(); game++) {
+            int moveCount = games.moveCount((int) game);
+            for (int ply = 0; ply < moveCount; ply++) {
+                moves[ply] = (byte) games.move((int) game, ply);
+            }
+            addGame(moves, moveCount);
+            if (gamesConsumed % CHECKPOINT_INTERVAL == 0) checkpoint();
+        }
+        checkpoint();
+    }
+
+    public void addGame(byte[] moves, int moveCount) throws IOException {
+        board.reset();
+        Player player = Player.X;
+        for (int ply = 0; ply < moveCount; ply++) {
+            owns[ply] = board.pieces(player);
+            opponents[ply] = board.pieces(player.opponent());
+            players[ply] = player;
+
+            board.makeMove(player, moves[ply]);
+            player = board.nextToMove(player);
+        }
+        gamesHash = hash(gamesHash, moves, moveCount);
+
+        int xDifference = board.discCount(Player.X) - board.discCount(Player.O);
+        for (int ply = 0; ply < moveCount; ply++) {
+            int difference = players[ply] == Player.X ? xDifference : -xDifference;
+            write(owns[ply], opponents[ply], players[ply], difference);
+        }
+        gamesConsumed++;
+    }
+
+    public void checkpoint() throws IOException {
+        output.flush();
+        String progress = gamesConsumed + " " + Long.toHexString(gamesHash);
+        Files.write(progressPath, progress.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    @Override
+    public void close() throws IOException {
+        checkpoint();
+        output.close();
+    }
+
+    private void write(long own, long opponent, Player player, int difference) throws IOException {
+        int symmetry = Symmetry.canonicalSymmetry(own, opponent);
+        own = Symmetry.transform(own, symmetry);
+        opponent = Symmetry.transform(opponent, symmetry);
+        if (!seen.add(Zobrist.hash(own, opponent))) return;
+
+        recordBuffer.clear();
+        recordBuffer.putLong(own)
+                .putLong(opponent)
+                .put((byte) (player == Player.X ? 0 : 1))
+                .put((byte) Integer.signum(difference))
+                .put((byte) difference);
+        output.write(record);
+        positionsWritten++;
+    }
+
+    private void resume(Path output) throws IOException {
+        if (Files.exists(progressPath)) {
+            String[] progress = new String(Files.readAllBytes(progressPath), StandardCharsets.US_ASCII).trim().split(" ");
+            if (progress.length != 2) throw new IOException("Progress file " + progressPath + " has no archive hash.");
+            gamesConsumed = Long.parseLong(progress[0]);
+            gamesHash = Long.parseUnsignedLong(progress[1], 16);
+        }
+
+        try (FileChannel channel = FileChannel.open(output, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            long records = channel.size() / RECORD_SIZE;
+            channel.truncate(records * RECORD_SIZE);
+
+            ByteBuffer buffer = ByteBuffer.allocate(RECORD_SIZE * 4096);
+            while (channel.read(buffer) >= 0) {
+                buffer.flip();
+                while (buffer.remaining() >= RECORD_SIZE) {
+                    long own = buffer.getLong();
+                    long opponent = buffer.getLong();
+                    buffer.position(buffer.position() + 3);
+                    seen.add(Zobrist.hash(own, opponent));
+                    positionsWritten++;
+                }
+                buffer.compact();
+            }
+        }
+    }
+
+    private long prefixHash(GameRecordReader games, byte[] moves) {
+        long hash = HASH_OFFSET;
+        for (int game = 0; game < gamesConsumed; game++) {
+            int moveCount = games.moveCount(game);
+            for (int ply = 0; ply < moveCount; ply++) {
+                moves[ply] = (byte) games.move(game, ply);
+            }
+            hash = hash(hash, moves, moveCount);
+        }
+        return hash;
+    }
+
+    /**
+     * FNV-1a over the move count and moves, which unlike a {@link java.util.zip.CRC32} can carry on from a saved value.
+     */
+    private static long hash(long hash, byte[] moves, int moveCount) {
+        hash = (hash ^ moveCount) * HASH_PRIME;
+        for (int ply = 0; ply < moveCount; ply++) {
+            hash = (hash ^ (moves[ply] & 0xFF)) * HASH_PRIME;
+        }
+        return hash;
+    }
+}
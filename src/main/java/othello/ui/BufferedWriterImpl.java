@@ -0,0 +1,89 @@
+package othello.ui;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+
+/**
+ * Collects output in a reusable buffer and writes it to the stream on {@link #flush()}, so a rendered frame costs one
+ * console write instead of one per fragment. A frame that grows past {@link #FLUSH_THRESHOLD} characters is flushed
+ * early and so reaches the stream in several writes. Text is encoded with the charset given, by default the
+ * platform's, as {@link System#out} does.
+ */
+public class BufferedWriterImpl implements Writer {
+
+    static final int FLUSH_THRESHOLD = 1 << 14;
+
+    private static final String LINE_SEPARATOR = System.lineSeparator();
+
+    private final OutputStream stream;
+    private final StringBuilder frame = new StringBuilder(4096);
+    private final CharsetEncoder encoder;
+    private final ByteBuffer bytes = ByteBuffer.allocate(8192);
+
+    public BufferedWriterImpl() {
+        this(System.out);
+    }
+
+    public BufferedWriterImpl(OutputStream stream) {
+        this(stream, Charset.defaultCharset());
+    }
+
+    public BufferedWriterImpl(OutputStream stream, Charset charset) {
+        this.stream = stream;
+        this.encoder = charset.newEncoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE);
+    }
+
+    @Override
+    public void write(String text) {
+        frame.append(text);
+        if (frame.length() >= FLUSH_THRESHOLD) flush();
+    }
+
+    @Override
+    public void write(char[] text, int offset, int length) {
+        frame.append(text, offset, length);
+        if (frame.length() >= FLUSH_THRESHOLD) flush();
+    }
+
+    @Override
+    public void writeLine(String line) {
+        frame.append(line).append(LINE_SEPARATOR);
+        if (frame.length() >= FLUSH_THRESHOLD) flush();
+    }
+
+    @Override
+    public void flush() {
+        try {
+            CharBuffer chars = CharBuffer.wrap(frame);
+            encoder.reset();
+            for (CoderResult result = encoder.encode(chars, bytes, true); ; result = encoder.encode(chars, bytes, true)) {
+                drain();
+                if (!result.isOverflow()) break;
+            }
+            while (encoder.flush(bytes).isOverflow()) {
+                drain();
+            }
+            drain();
+            stream.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            frame.setLength(0);
+        }
+    }
+
+    private void drain() throws IOException {
+        if (bytes.position() == 0) return;
+        stream.write(bytes.array(), 0, bytes.position());
+        bytes.clear();
+    }
+}
@@ -1,55 +1,58 @@
 package othello.ui;
 
-import com.google.common.collect.BiMap;
-import com.google.common.collect.HashBiMap;
 import com.google.common.collect.ImmutableMap;
+import othello.book.OpeningBook;
+import othello.core.Board;
+import othello.core.Notation;
 import othello.core.Othello;
 import othello.core.Player;
 import othello.core.Position;
+import othello.engine.SearchResult;
+import othello.engine.Searcher;
 
+import java.io.BufferedReader;
+import java.io.IOException;
 import java.io.InputStreamReader;
 import java.io.Reader;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
-import java.util.Scanner;
+import java.util.StringTokenizer;
 
 public class OthelloREPL {
 
+    private static final long HINT_BUDGET_MILLIS = 500;
+
     private static Map<Player, String> playerToNameMap = ImmutableMap.<Player, String>builder()
             .put(Player.X, "X")
             .put(Player.O, "O")
             .put(Player._, "-")
             .build();
 
-    private static BiMap<Integer, String> rowToNameMap = HashBiMap.create(ImmutableMap.<Integer, String>builder()
-            .put(0, "1")
-            .put(1, "2")
-            .put(2, "3")
-            .put(3, "4")
-            .put(4, "5")
-            .put(5, "6")
-            .put(6, "7")
-            .put(7, "8")
-            .build());
-
-    private static BiMap<Integer, String> columnToNameMap = HashBiMap.create(ImmutableMap.<Integer, String>builder()
-            .put(0, "a")
-            .put(1, "b")
-            .put(2, "c")
-            .put(3, "d")
-            .put(4, "e")
-            .put(5, "f")
-            .put(6, "g")
-            .put(7, "h")
-            .build());
-
     private Reader input;
     private Writer output;
     private Othello othello;
+    private OpeningBook book;
+    private Searcher searcher;
+    private final int[] moveBuffer = new int[64];
+    private final char[] cells = new char[64];
+    private final char[] row = {'1', ' ', '-', '-', '-', '-', '-', '-', '-', '-'};
 
     public OthelloREPL(Reader input, Writer output) {
+        this(input, output, null);
+    }
+
+    public OthelloREPL(Reader input, Writer output, OpeningBook book) {
         this.input = input;
         this.output = output;
         this.othello = new Othello();
+        this.book = book;
     }
 
     public void start() {
@@ -59,17 +62,19 @@ public class OthelloREPL {
         renderGameState(othello);
         output.writeLine("");
         output.write("> ");
+        output.flush();
 
-        Scanner scanner = new Scanner(input);
+        BufferedReader lines = new BufferedReader(input);
 
-        while (scanner.hasNextLine()) {
-            String line = scanner.nextLine().toLowerCase().trim();
+        for (String line = readLine(lines); line != null; line = readLine(lines)) {
+            line = line.toLowerCase().trim();
             output.writeLine("");
 
             switch (line) {
 
                 case "q":
                     output.writeLine("Goodbye!");
+                    output.flush();
                     return;
 
                 case "n":
@@ -79,47 +84,188 @@ public class OthelloREPL {
                     renderGameState(othello);
                     break;
 
+                case "u":
+                    undoMove();
+                    break;
+
+                case "h":
+                    suggestMove();
+                    break;
+
                 default:
                     processMoveCommand(line);
             }
 
             output.writeLine("");
             output.write("> ");
+            output.flush();
         }
     }
 
-    private void processMoveCommand(String line) {
+    private static String readLine(BufferedReader lines) {
         try {
-            if (line.matches("^[1-8][a-h]$")) {
-                Position position = createPosition(line.charAt(0), line.charAt(1));
-                othello.placePiece(position);
-                renderGameState(othello);
-            } else if (line.matches("^[a-h][1-8]$")) {
-                Position position = createPosition(line.charAt(1), line.charAt(0));
-                othello.placePiece(position);
+            return lines.readLine();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Plays a transcript without rendering each move. Tokens are separated by whitespace: squares in either
+     * {@code d3} or {@code 3d} form are played for the player to move, {@code p} renders the current game, {@code n}
+     * starts a new game, {@code u} undoes a move, and {@code #} comments out the rest of a line. The game is rendered
+     * at the end when {@code renderAtEnd} is set. Stops at the first failing token, reporting it as
+     * {@code name:line: message}, and returns whether the whole transcript was applied.
+     */
+    public boolean replay(Reader script, String name, boolean renderAtEnd) throws IOException {
+        othello.newGame();
+        BufferedReader lines = new BufferedReader(script);
+        int lineNumber = 0;
+        for (String line = lines.readLine(); line != null; line = lines.readLine()) {
+            lineNumber++;
+            int comment = line.indexOf('#');
+            StringTokenizer tokens = new StringTokenizer(comment < 0 ? line : line.substring(0, comment));
+            while (tokens.hasMoreTokens()) {
+                String token = tokens.nextToken().toLowerCase();
+                try {
+                    replayToken(token);
+                } catch (Exception e) {
+                    output.writeLine(name + ":" + lineNumber + ": " + token + ": " + e.getMessage());
+                    output.flush();
+                    return false;
+                }
+            }
+        }
+
+        if (renderAtEnd) renderGameState(othello);
+        output.flush();
+        return true;
+    }
+
+    /**
+     * Replays every transcript without rendering, reporting only failures followed by a one line summary. Returns the
+     * number of transcripts that failed.
+     */
+    public int validate(List<Path> transcripts) throws IOException {
+        int failures = 0;
+        for (Path transcript : transcripts) {
+            try (Reader script = Files.newBufferedReader(transcript, StandardCharsets.UTF_8)) {
+                if (!replay(script, transcript.toString(), false)) failures++;
+            }
+        }
+        output.writeLine("Validated " + transcripts.size() + " transcripts, " + failures + " failed.");
+        output.flush();
+        return failures;
+    }
+
+    private void replayToken(String token) {
+        switch (token) {
+            case "p":
                 renderGameState(othello);
-            } else {
-                output.write(line);
-                output.writeLine(" is not a valid command.");
+                break;
+            case "n":
+                othello.newGame();
+                break;
+            case "u":
+                othello.undoMove();
+                break;
+            default:
+                int square = parseSquare(token);
+                if (square < 0) throw new IllegalArgumentException("Not a valid move.");
+                othello.placePiece(Position.of(square));
+        }
+    }
+
+    static int parseSquare(String token) {
+        return token.length() == 2 ? parseSquare(token.charAt(0), token.charAt(1)) : -1;
+    }
+
+    private void processMoveCommand(String line) {
+        int count = parseMoves(line, moveBuffer);
+        if (count < 0) {
+            output.write(line);
+            output.writeLine(" is not a valid command.");
+            return;
+        }
+
+        int played = 0;
+        try {
+            for (; played < count; played++) {
+                othello.placePiece(Position.of(moveBuffer[played]));
             }
+            renderGameState(othello);
         } catch (Exception e) {
+            if (played > 0) renderGameState(othello);
             output.writeLine(e.getMessage());
         }
     }
 
+    /**
+     * Reads space-separated squares in either {@code d3} or {@code 3d} form into {@code squares}, returning how many
+     * were read, or {@code -1} if any word is not a square.
+     */
+    static int parseMoves(String line, int[] squares) {
+        int count = 0;
+        int length = line.length();
+        for (int i = 0; i < length; ) {
+            if (line.charAt(i) == ' ') {
+                i++;
+                continue;
+            }
+            if (i + 1 >= length || (i + 2 < length && line.charAt(i + 2) != ' ') || count == squares.length) return -1;
+
+            int square = parseSquare(line.charAt(i), line.charAt(i + 1));
+            if (square < 0) return -1;
+            squares[count++] = square;
+            i += 2;
+        }
+        return count == 0 ? -1 : count;
+    }
+
+    static int parseSquare(char first, char second) {
+        int square = Notation.square(first, second);
+        return square >= 0 ? square : Notation.square(second, first);
+    }
+
+    private void undoMove() {
+        try {
+            othello.undoMove();
+            output.writeLine("Undoing last move.");
+            output.writeLine("");
+            renderGameState(othello);
+        } catch (Exception e) {
+            output.writeLine(e.getMessage());
+        }
+    }
+
+    private void suggestMove() {
+        Player player = othello.whoseTurn();
+        if (gameOver(player)) {
+            output.writeLine("Game is over, no more moves can be made.");
+            return;
+        }
+
+        Position move = book == null ? null : book.lookup(othello.getBoard(), player);
+        if (move != null) {
+            output.writeLine("Book move: " + Notation.format(move));
+            return;
+        }
+
+        if (searcher == null) searcher = new Searcher();
+        SearchResult result = searcher.search(othello, HINT_BUDGET_MILLIS);
+        output.writeLine("Suggested move: " + Notation.format(result.move) + " (depth " + result.depth + ")");
+    }
+
     private void renderGameState(Othello othello) {
         Player currentPlayer = othello.whoseTurn();
-        Player[][] board = othello.renderBoard();
-        Map<Player, Integer> score = othello.currentScore();
+        int playerXScore = othello.score(Player.X);
+        int playerOScore = othello.score(Player.O);
 
         if(!gameOver(currentPlayer)) output.writeLine("Player " + playerToNameMap.get(currentPlayer) + "'s turn.");
 
-        renderBoard(board);
+        renderBoard(othello.getBoard());
 
         if(gameOver(currentPlayer)) {
-            int playerXScore = score.get(Player.X);
-            int playerOScore = score.get(Player.O);
-
             output.write("Game over, ");
             if(playerOScore > playerXScore) {
                 output.write(Player.O.name());
@@ -133,34 +279,27 @@ public class OthelloREPL {
             output.write(" ");
         }
         output.write("Score: X = ");
-        output.write(score.get(Player.X).toString());
+        output.write(Integer.toString(playerXScore));
         output.write(", O = ");
-        output.writeLine(score.get(Player.O).toString());
+        output.writeLine(Integer.toString(playerOScore));
     }
 
     private boolean gameOver(Player currentPlayer) {
         return currentPlayer == Player._;
     }
 
-    private void renderBoard(Player[][] board) {
-        for (int i = 0; i < board.length; i++) {
-            output.write(rowToNameMap.get(i));
-            output.write(" ");
-            for (int j = 0; j < board[i].length; j++) {
-                output.write(playerToNameMap.get(board[i][j]));
-            }
+    private void renderBoard(Board board) {
+        board.render(cells, 0);
+        for (int i = 0; i < 8; i++) {
+            row[0] = (char) ('1' + i);
+            System.arraycopy(cells, i * 8, row, 2, 8);
+            output.write(row, 0, row.length);
             output.writeLine("");
         }
         output.writeLine("  abcdefgh");
         output.writeLine("");
     }
 
-    private Position createPosition(char row, char column) {
-        int x = rowToNameMap.inverse().get(String.valueOf(row));
-        int y = columnToNameMap.inverse().get(String.valueOf(column));
-        return new Position(x, y);
-    }
-
     private void printGuide() {
         output.writeLine("");
         output.writeLine("===========");
@@ -185,16 +324,40 @@ public class OthelloREPL {
         output.writeLine("");
         output.writeLine("n - start a new game");
         output.writeLine("");
+        output.writeLine("u - undo the last move");
+        output.writeLine("");
+        output.writeLine("h - suggest a move for the current player");
+        output.writeLine("");
         output.writeLine("q - quit othello");
         output.writeLine("");
         output.writeLine("{row}{column} - place piece for current player, {row} is 1-8, {column} is a-h");
         output.writeLine("");
         output.writeLine("{column}{row} - alternative format for placing a piece on the board");
         output.writeLine("");
+        output.writeLine("Several moves can be played at once by separating them with spaces, e.g. d3 c5 f6");
+        output.writeLine("");
     }
 
-    public static void main(String[] args) {
-        OthelloREPL repl = new OthelloREPL(new InputStreamReader(System.in), new WriterImpl());
+    public static void main(String[] args) throws IOException {
+        if (args.length > 0 && args[0].equals("--validate")) {
+            List<Path> transcripts = new ArrayList<>();
+            for (int i = 1; i < args.length; i++) {
+                transcripts.add(Paths.get(args[i]));
+            }
+            OthelloREPL repl = new OthelloREPL(new StringReader(""), new BufferedWriterImpl());
+            System.exit(repl.validate(transcripts) == 0 ? 0 : 1);
+        }
+        if (args.length > 0 && args[0].equals("--replay")) {
+            OthelloREPL repl = new OthelloREPL(new StringReader(""), new BufferedWriterImpl());
+            boolean replayed = args.length == 1
+                    ? repl.replay(new InputStreamReader(System.in, StandardCharsets.UTF_8), "stdin", true)
+                    : repl.replay(Files.newBufferedReader(Paths.get(args[1]), StandardCharsets.UTF_8), args[1], true);
+            System.exit(replayed ? 0 : 1);
+        }
+
+        OpeningBook book = args.length > 0 ? new OpeningBook(Paths.get(args[0])) : null;
+        OthelloREPL repl = new OthelloREPL(new InputStreamReader(System.in), new BufferedWriterImpl(), book);
         repl.start();
+        if (book != null) book.close();
     }
 }
@@ -3,4 +3,11 @@ package othello.ui;
 public interface Writer {
     void write(String text);
     void writeLine(String line);
+
+    default void write(char[] text, int offset, int length) {
+        write(new String(text, offset, length));
+    }
+
+    default void flush() {
+    }
 }
@@ -0,0 +1,131 @@
+package othello.book;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import othello.core.Board;
+import othello.core.Player;
+import othello.core.Position;
+import othello.core.Symmetry;
+import othello.engine.SearchResult;
+import othello.engine.Searcher;
+import othello.record.GameResult;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.IsEqual.equalTo;
+import static org.hamcrest.core.IsNull.nullValue;
+
+public class OpeningBookTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void symmetricOpeningsShareOneEntry() throws IOException {
+        OpeningBookBuilder builder = new OpeningBookBuilder(1, 1);
+        builder.addGame(new byte[]{19}, 1, 40, 24);
+        builder.addGame(new byte[]{26}, 1, 40, 24);
+        builder.addGame(new byte[]{37}, 1, 40, 24);
+        builder.addGame(new byte[]{44}, 1, 40, 24);
+
+        try (OpeningBook book = write(builder)) {
+            assertThat(book.size(), equalTo(1));
+            assertThat(book.games(Symmetry.canonicalHash(new Board(), Player.X)), equalTo(4));
+        }
+    }
+
+    @Test
+    public void bookPicksBestScoringMove() throws IOException {
+        OpeningBookBuilder builder = new OpeningBookBuilder(2, 1);
+        builder.addGame(GameResult.parse("d3c3 O 20 44"));
+        builder.addGame(GameResult.parse("d3c3 O 30 34"));
+        builder.addGame(GameResult.parse("d3e3 X 40 24"));
+
+        Board board = new Board();
+        board.makeMove(Player.X, Position.at(2, 3));
+
+        try (OpeningBook book = write(builder)) {
+            assertThat(book.lookup(board, Player.O), equalTo(Position.at(2, 2)));
+        }
+    }
+
+    @Test
+    public void bookMovesAreMappedBackToTheQueriedOrientation() throws IOException {
+        OpeningBookBuilder builder = new OpeningBookBuilder(2, 1);
+        builder.addGame(GameResult.parse("d3c3 O 20 44"));
+
+        Board board = new Board();
+        board.makeMove(Player.X, Position.at(5, 4));
+
+        try (OpeningBook book = write(builder)) {
+            assertThat(book.lookup(board, Player.O), equalTo(Position.at(5, 5)));
+        }
+    }
+
+    @Test
+    public void movesBelowMinimumGamesAreLeftOut() throws IOException {
+        OpeningBookBuilder builder = new OpeningBookBuilder(2, 2);
+        builder.addGame(GameResult.parse("d3c3 O 20 44"));
+        builder.addGame(GameResult.parse("d3e3 X 40 24"));
+
+        Board board = new Board();
+        board.makeMove(Player.X, Position.at(2, 3));
+
+        try (OpeningBook book = write(builder)) {
+            assertThat(builder.positions(), equalTo(2));
+            assertThat(book.size(), equalTo(1));
+            assertThat(book.lookup(board, Player.O), nullValue());
+        }
+    }
+
+    @Test
+    public void searcherPlaysBookMoveWithoutSearching() throws IOException {
+        OpeningBookBuilder builder = new OpeningBookBuilder(2, 1);
+        builder.addGame(GameResult.parse("d3c3 O 20 44"));
+
+        Board board = new Board();
+        board.makeMove(Player.X, Position.at(2, 3));
+
+        try (OpeningBook book = write(builder)) {
+            Searcher searcher = new Searcher();
+            searcher.setOpeningBook(book);
+            SearchResult result = searcher.search(board, Player.O, 1000);
+
+            assertThat(result.move, equalTo(Position.at(2, 2)));
+            assertThat(result.nodes, equalTo(0L));
+        }
+    }
+
+    @Test
+    public void illegalBookMovesAreIgnored() throws IOException {
+        ByteBuffer file = ByteBuffer.allocate(OpeningBookFormat.HEADER_SIZE + OpeningBookFormat.ENTRY_SIZE);
+        file.putInt(OpeningBookFormat.MAGIC).put(OpeningBookFormat.VERSION).put(new byte[3]).putInt(1).putInt(0);
+        file.putLong(Symmetry.canonicalHash(new Board(), Player.X)).put((byte) 0).put(new byte[3]).putInt(1);
+        Path path = folder.newFile("collision.book").toPath();
+        Files.write(path, file.array());
+
+        try (OpeningBook book = new OpeningBook(path)) {
+            assertThat(book.size(), equalTo(1));
+            assertThat(book.lookup(new Board(), Player.X), nullValue());
+        }
+    }
+
+    @Test(expected = IOException.class)
+    public void otherFilesAreRejected() throws IOException {
+        Path path = folder.newFile("not-a-book.bin").toPath();
+        Files.write(path, new byte[32]);
+
+        new OpeningBook(path).close();
+    }
+
+    private OpeningBook write(OpeningBookBuilder builder) throws IOException {
+        Path path = folder.newFile().toPath();
+        builder.write(path);
+        return new OpeningBook(path);
+    }
+}
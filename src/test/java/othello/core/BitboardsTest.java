@@ -0,0 +1,75 @@
+package othello.core;
+
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.IsEqual.equalTo;
+import static othello.core.Bitboards.bit;
+import static othello.core.Bitboards.square;
+
+public class BitboardsTest {
+
+    private static final long START_X = bit(square(3, 4)) | bit(square(4, 3));
+    private static final long START_O = bit(square(3, 3)) | bit(square(4, 4));
+
+    @Test
+    public void canGenerateOpeningMoves() {
+        long expected = bit(square(2, 3)) | bit(square(3, 2)) | bit(square(4, 5)) | bit(square(5, 4));
+
+        assertThat(Bitboards.legalMoves(START_X, START_O), equalTo(expected));
+    }
+
+    @Test
+    public void canGetFlipsForMove() {
+        assertThat(Bitboards.flips(START_X, START_O, square(3, 2)), equalTo(bit(square(3, 3))));
+        assertThat(Bitboards.flips(START_X, START_O, square(2, 2)), equalTo(0L));
+    }
+
+    @Test
+    public void linesDoNotWrapAroundTheEdgeOfTheBoard() {
+        long own = bit(square(1, 0));
+        long opponent = bit(square(0, 7));
+
+        assertThat(Bitboards.legalMoves(own, opponent), equalTo(0L));
+        assertThat(Bitboards.flips(own, opponent, square(0, 6)), equalTo(0L));
+    }
+
+    @Test
+    public void legalMovesAgreeWithFlipsThroughoutRandomGames() {
+        Random random = new Random(42);
+
+        for (int game = 0; game < 200; game++) {
+            long own = START_X;
+            long opponent = START_O;
+            int passes = 0;
+
+            while (passes < 2) {
+                long moves = Bitboards.legalMoves(own, opponent);
+                long empty = ~(own | opponent);
+                for (int square = 0; square < 64; square++) {
+                    boolean legal = (moves & bit(square)) != 0;
+                    boolean flips = (empty & bit(square)) != 0 && Bitboards.flips(own, opponent, square) != 0;
+                    assertThat(legal, equalTo(flips));
+                }
+
+                if (moves == 0) {
+                    passes++;
+                } else {
+                    passes = 0;
+                    int choice = random.nextInt(Long.bitCount(moves));
+                    for (int i = 0; i < choice; i++) moves &= moves - 1;
+                    int square = Long.numberOfTrailingZeros(moves);
+                    long flips = Bitboards.flips(own, opponent, square);
+                    own |= bit(square) | flips;
+                    opponent &= ~flips;
+                }
+
+                long swap = own;
+                own = opponent;
+                opponent = swap;
+            }
+        }
+    }
+}
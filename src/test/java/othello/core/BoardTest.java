@@ -3,7 +3,10 @@ package othello.core;
 import org.junit.Before;
 import org.junit.Test;
 import othello.core.exceptions.InvalidMoveException;
+import othello.core.exceptions.InvalidTransformException;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 
 import static com.google.common.collect.Lists.newArrayList;
@@ -107,6 +110,33 @@ public class BoardTest {
         }
     }
 
+    @Test
+    public void errorIsThrownWhenMovingAfterGameIsOver() {
+        Player[][] before = board.render();
+
+        try {
+            board.makeMove(_, new Position(2, 3));
+            fail("Expected an exception to be thrown");
+        } catch (Exception e) {
+            assertThat(e, instanceOf(InvalidMoveException.class));
+            assertThat(e.getMessage(), equalTo("Game is over, no more moves can be made."));
+            assertThat(board.render(), matchesBoard(before));
+        }
+    }
+
+    @Test
+    public void errorIsThrownWhenMovingOffTheBoard() {
+        Player[][] before = board.render();
+
+        try {
+            board.makeMove(X, new Position(-1, 3));
+            fail("Expected an exception to be thrown");
+        } catch (Exception e) {
+            assertThat(e, instanceOf(InvalidMoveException.class));
+            assertThat(board.render(), matchesBoard(before));
+        }
+    }
+
     @Test
     public void errorIsThrownPositionHasNoLineToOtherPiece() {
         Player[][] before = board.render();
@@ -134,4 +164,205 @@ public class BoardTest {
 
         assertThat(positions, equalTo(newArrayList()));
     }
+
+    @Test
+    public void lineBetweenFollowsTheSameStrideRulesAsPositionTransforms() {
+        board.makeMove(X, new Position(2, 3));
+
+        assertThat(board.getPiecesOnLineBetween(new Position(6, 3), new Position(4, 3), O, X), equalTo(newArrayList()));
+        assertThat(board.getPiecesOnLineBetween(new Position(5, 5), new Position(4, 4), O, X), equalTo(newArrayList(new Position(4, 4))));
+
+        try {
+            board.getPiecesOnLineBetween(new Position(2, 3), new Position(4, 3), O, X);
+            fail("Expected an exception to be thrown");
+        } catch (Exception e) {
+            assertThat(e, instanceOf(InvalidTransformException.class));
+        }
+    }
+
+    @Test
+    public void canGetAllLegalMovesAsMask() {
+        long expected = Bitboards.bit(Bitboards.square(2, 3)) | Bitboards.bit(Bitboards.square(3, 2))
+                | Bitboards.bit(Bitboards.square(4, 5)) | Bitboards.bit(Bitboards.square(5, 4));
+
+        assertThat(board.legalMoves(X), equalTo(expected));
+    }
+
+    @Test
+    public void canGetAllLegalMovesAsPositions() {
+        assertThat(board.validMoves(O), equalTo(newArrayList(
+                new Position(2, 4),
+                new Position(3, 5),
+                new Position(4, 2),
+                new Position(5, 3)
+        )));
+    }
+
+    @Test
+    public void canGetFlipsForEachLegalMove() {
+        MoveIterator moves = new MoveIterator(board.legalMoves(X));
+        while (moves.hasNext()) {
+            int square = moves.nextSquare();
+            assertThat(Long.bitCount(board.flips(X, square)), equalTo(1));
+        }
+
+        assertThat(board.flips(X, new Position(3, 2)), equalTo(Bitboards.bit(Bitboards.square(3, 3))));
+        assertThat(board.flips(X, new Position(3, 3)), equalTo(0L));
+        assertThat(board.flips(X, new Position(0, 0)), equalTo(0L));
+    }
+
+    @Test
+    public void canUndoMovesInReverseOrder() {
+        Player[][] start = board.render();
+        board.makeMove(X, new Position(3, 2));
+        Player[][] afterFirstMove = board.render();
+        board.makeMove(O, new Position(2, 2));
+
+        assertThat(board.undoMove(), equalTo(new Position(2, 2)));
+        assertThat(board.render(), matchesBoard(afterFirstMove));
+        assertThat(board.undoMove(), equalTo(new Position(3, 2)));
+        assertThat(board.render(), matchesBoard(start));
+        assertThat(board.movesMade(), equalTo(0));
+    }
+
+    @Test
+    public void errorIsThrownWhenNoMovesToUndo() {
+        try {
+            board.undoMove();
+            fail("Expected an exception to be thrown");
+        } catch (Exception e) {
+            assertThat(e, instanceOf(InvalidMoveException.class));
+            assertThat(e.getMessage(), equalTo("No moves to undo."));
+        }
+    }
+
+    @Test
+    public void hashIsUpdatedIncrementallyAsMovesAreMade() {
+        board.makeMove(X, new Position(3, 2));
+        board.makeMove(O, new Position(2, 2));
+
+        assertThat(board.hash(), equalTo(Zobrist.hash(board.pieces(X), board.pieces(O))));
+    }
+
+    @Test
+    public void hashIsRestoredWhenMovesAreUndone() {
+        long start = board.hash();
+        board.makeMove(X, new Position(3, 2));
+        board.makeMove(O, new Position(2, 2));
+        board.undoMove();
+        board.undoMove();
+
+        assertThat(board.hash(), equalTo(start));
+    }
+
+    @Test
+    public void transposedMoveOrdersGiveTheSameHash() {
+        Board other = new Board();
+
+        board.makeMove(X, new Position(2, 3));
+        board.makeMove(O, new Position(2, 2));
+        board.makeMove(X, new Position(3, 2));
+
+        other.makeMove(X, new Position(3, 2));
+        other.makeMove(O, new Position(2, 2));
+        other.makeMove(X, new Position(2, 3));
+
+        assertThat(board.render(), matchesBoard(other.render()));
+        assertThat(board.hash(), equalTo(other.hash()));
+        assertFalse(board.hash(X) == board.hash(O));
+    }
+
+    @Test
+    public void discCountsAreKeptAsMovesAreMadeAndUndone() {
+        assertThat(board.discCount(X), equalTo(2));
+        assertThat(board.discCount(O), equalTo(2));
+
+        board.makeMove(X, new Position(3, 2));
+        assertThat(board.discCount(X), equalTo(4));
+        assertThat(board.discCount(O), equalTo(1));
+
+        board.undoMove();
+        assertThat(board.discCount(X), equalTo(2));
+        assertThat(board.discCount(O), equalTo(2));
+    }
+
+    @Test
+    public void canLoadPiecesFromBitboards() {
+        Board other = new Board();
+        other.makeMove(X, new Position(3, 2));
+        other.makeMove(O, new Position(2, 2));
+
+        board.makeMove(X, new Position(5, 4));
+        board.load(other.pieces(X), other.pieces(O));
+
+        assertThat(board.render(), matchesBoard(other.render()));
+        assertThat(board.hash(), equalTo(other.hash()));
+        assertThat(board.discCount(X), equalTo(other.discCount(X)));
+        assertThat(board.legalMoves(X), equalTo(other.legalMoves(X)));
+        assertThat(board.movesMade(), equalTo(0));
+    }
+
+    @Test
+    public void loadingOverlappingPiecesIsAnError() {
+        try {
+            board.load(1L, 3L);
+            fail();
+        } catch (IllegalArgumentException e) {
+            assertThat(e.getMessage(), equalTo("X and O pieces cannot share a square."));
+        }
+    }
+
+    @Test
+    public void canRenderIntoBuffers() {
+        board.makeMove(X, new Position(2, 3));
+        String expected = "-------------------X-------XX------XO---------------------------";
+
+        char[] chars = new char[66];
+        board.render(chars, 2);
+        byte[] bytes = new byte[64];
+        board.render(bytes, 0);
+        ByteBuffer buffer = ByteBuffer.allocate(64);
+        board.render(buffer);
+
+        assertThat(board.toCompactString(), equalTo(expected));
+        assertThat(new String(chars, 2, 64), equalTo(expected));
+        assertThat(new String(bytes, StandardCharsets.US_ASCII), equalTo(expected));
+        assertThat(new String(buffer.array(), StandardCharsets.US_ASCII), equalTo(expected));
+        assertThat(buffer.position(), equalTo(64));
+    }
+
+    @Test
+    public void canGetMobilityAndFrontier() {
+        assertThat(board.mobility(X), equalTo(4));
+        assertThat(board.frontier(X), equalTo(2));
+
+        board.makeMove(X, new Position(3, 2));
+
+        assertThat(board.mobility(O), equalTo(3));
+        assertThat(board.mobility(X), equalTo(Long.bitCount(Bitboards.legalMoves(board.pieces(X), board.pieces(O)))));
+        assertThat(board.frontier(X), equalTo(4));
+        assertThat(board.frontier(O), equalTo(1));
+    }
+
+    @Test
+    public void canGetNextPlayerToMove() {
+        assertThat(board.nextToMove(O), equalTo(X));
+        assertThat(board.nextToMove(X), equalTo(O));
+
+        board.makeMove(X, new Position(5, 4));
+        board.makeMove(O, new Position(3, 5));
+        board.makeMove(X, new Position(2, 4));
+        board.makeMove(O, new Position(5, 3));
+        board.makeMove(X, new Position(4, 2));
+        board.makeMove(O, new Position(5, 5));
+        board.makeMove(X, new Position(6, 4));
+        board.makeMove(O, new Position(4, 5));
+        board.makeMove(X, new Position(4, 6));
+
+        assertThat(board.nextToMove(X), equalTo(_));
+
+        board.undoMove();
+
+        assertThat(board.nextToMove(O), equalTo(X));
+    }
 }
@@ -0,0 +1,38 @@
+package othello.core;
+
+import org.junit.Test;
+
+import java.util.NoSuchElementException;
+
+import static junit.framework.TestCase.assertTrue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.IsEqual.equalTo;
+import static org.junit.Assert.assertFalse;
+
+public class MoveIteratorTest {
+
+    @Test
+    public void iteratesSquaresInAscendingOrder() {
+        MoveIterator moves = new MoveIterator((1L << 63) | (1L << 5) | 1L);
+
+        assertThat(moves.nextSquare(), equalTo(0));
+        assertThat(moves.nextSquare(), equalTo(5));
+        assertThat(moves.nextSquare(), equalTo(63));
+        assertFalse(moves.hasNext());
+    }
+
+    @Test
+    public void canBeResetAndReused() {
+        MoveIterator moves = new MoveIterator();
+        assertFalse(moves.hasNext());
+
+        moves.reset(1L << 10);
+        assertTrue(moves.hasNext());
+        assertThat(moves.nextSquare(), equalTo(10));
+    }
+
+    @Test(expected = NoSuchElementException.class)
+    public void errorIsThrownWhenNoMovesRemain() {
+        new MoveIterator(0L).nextSquare();
+    }
+}
@@ -4,13 +4,19 @@ import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
+import othello.core.exceptions.InvalidMoveException;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static helpers.BoardMatcher.matchesBoard;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.core.IsEqual.equalTo;
+import static org.hamcrest.core.IsNull.nullValue;
 import static othello.core.Player.*;
 
 public class OthelloTest {
@@ -67,6 +73,8 @@ public class OthelloTest {
         expected.put(O, 1);
 
         assertThat(othello.currentScore(), equalTo(expected));
+        assertThat(othello.score(X), equalTo(4));
+        assertThat(othello.score(O), equalTo(1));
     }
 
     @Test
@@ -171,4 +179,163 @@ public class OthelloTest {
 
         assertThat(othello.whoseTurn(), equalTo(_));
     }
+
+    @Test
+    public void canUndoMoveAndRestorePlayer() {
+        othello.placePiece(new Position(5, 4));
+        othello.placePiece(new Position(3, 5));
+
+        assertThat(othello.undoMove(), equalTo(new Position(3, 5)));
+        assertThat(othello.whoseTurn(), equalTo(O));
+        assertThat(othello.renderBoard(), matchesBoard(new Player[][] {
+                {_, _, _, _, _, _, _, _},
+                {_, _, _, _, _, _, _, _},
+                {_, _, _, _, _, _, _, _},
+                {_, _, _, O, X, _, _, _},
+                {_, _, _, X, X, _, _, _},
+                {_, _, _, _, X, _, _, _},
+                {_, _, _, _, _, _, _, _},
+                {_, _, _, _, _, _, _, _}
+        }));
+    }
+
+    @Test
+    public void canUndoFinalMoveOfGame() {
+        othello.placePiece(new Position(4, 5));
+        othello.placePiece(new Position(5, 3));
+        othello.placePiece(new Position(4, 2));
+        othello.placePiece(new Position(3, 5));
+        othello.placePiece(new Position(2, 4));
+        othello.placePiece(new Position(5, 5));
+        othello.placePiece(new Position(4, 6));
+        othello.placePiece(new Position(5, 4));
+        othello.placePiece(new Position(6, 4));
+        assertThat(othello.whoseTurn(), equalTo(_));
+
+        othello.undoMove();
+
+        assertThat(othello.whoseTurn(), equalTo(X));
+    }
+
+    @Test
+    public void errorIsThrownWhenUndoingWithNoMoves() {
+        failure.expect(InvalidMoveException.class);
+        failure.expectMessage("No moves to undo.");
+
+        othello.undoMove();
+    }
+
+    @Test
+    public void whenOpponentHasNoValidMovesCurrentPlayerMovesAgain() {
+        othello.placePiece(new Position(5, 4));
+        othello.placePiece(new Position(5, 3));
+        othello.placePiece(new Position(5, 2));
+        othello.placePiece(new Position(3, 5));
+        othello.placePiece(new Position(2, 6));
+        othello.placePiece(new Position(3, 6));
+        othello.placePiece(new Position(4, 6));
+        othello.placePiece(new Position(6, 2));
+        othello.placePiece(new Position(7, 1));
+        othello.placePiece(new Position(6, 3));
+        othello.placePiece(new Position(7, 2));
+        othello.placePiece(new Position(1, 7));
+        othello.placePiece(new Position(3, 2));
+        othello.placePiece(new Position(5, 5));
+        othello.placePiece(new Position(6, 4));
+        othello.placePiece(new Position(5, 1));
+        othello.placePiece(new Position(5, 0));
+        othello.placePiece(new Position(5, 6));
+        othello.placePiece(new Position(3, 7));
+
+        assertThat(othello.whoseTurn(), equalTo(X));
+        assertThat(othello.getBoard().validMovesRemain(O), equalTo(false));
+    }
+
+    @Test
+    public void errorIsThrownWhenPlacingPieceAfterGameIsOver() {
+        othello.placePiece(new Position(4, 5));
+        othello.placePiece(new Position(5, 3));
+        othello.placePiece(new Position(4, 2));
+        othello.placePiece(new Position(3, 5));
+        othello.placePiece(new Position(2, 4));
+        othello.placePiece(new Position(5, 5));
+        othello.placePiece(new Position(4, 6));
+        othello.placePiece(new Position(5, 4));
+        othello.placePiece(new Position(6, 4));
+
+        failure.expect(InvalidMoveException.class);
+        failure.expectMessage("Game is over, no more moves can be made.");
+
+        othello.placePiece(new Position(0, 0));
+    }
+
+    @Test
+    public void snapshotIsPublishedAfterEveryChange() {
+        BoardSnapshot start = othello.snapshot();
+        assertThat(start.toMove(), equalTo(X));
+        assertThat(start.toCompactString(), equalTo(othello.getBoard().toCompactString()));
+
+        othello.placePiece(new Position(5, 4));
+        BoardSnapshot afterMove = othello.snapshot();
+        assertThat(afterMove.toMove(), equalTo(O));
+        assertThat(afterMove.discCount(X), equalTo(4));
+        assertThat(start.discCount(X), equalTo(2));
+
+        othello.undoMove();
+        assertThat(othello.snapshot(), equalTo(start));
+    }
+
+    @Test
+    public void publishedSnapshotsMatchOnesBuiltFromPieces() {
+        othello.placePiece(new Position(5, 4));
+        othello.placePiece(new Position(5, 5));
+
+        BoardSnapshot published = othello.snapshot();
+        BoardSnapshot built = new BoardSnapshot(published.pieces(X), published.pieces(O), published.toMove());
+
+        assertThat(built, equalTo(published));
+        assertThat(built.hashCode(), equalTo(published.hashCode()));
+    }
+
+    @Test
+    public void snapshotCanBeRebuiltIntoPlayableBoard() {
+        othello.placePiece(new Position(5, 4));
+        othello.placePiece(new Position(5, 5));
+
+        Board board = othello.snapshot().toBoard();
+        board.makeMove(othello.snapshot().toMove(), new Position(4, 5));
+        othello.placePiece(new Position(4, 5));
+
+        assertThat(board.toCompactString(), equalTo(othello.getBoard().toCompactString()));
+        assertThat(board.hash(), equalTo(othello.getBoard().hash()));
+    }
+
+    @Test
+    public void readersSeeConsistentSnapshotsWhileMovesArePlayed() throws InterruptedException {
+        AtomicBoolean done = new AtomicBoolean();
+        AtomicReference<String> problem = new AtomicReference<>();
+        Thread reader = new Thread(() -> {
+            while (!done.get()) {
+                BoardSnapshot snapshot = othello.snapshot();
+                int discs = snapshot.discCount(X) + snapshot.discCount(O);
+                if ((snapshot.pieces(X) & snapshot.pieces(O)) != 0 || discs < 4 || snapshot.pieces(_) != ~(snapshot.pieces(X) | snapshot.pieces(O))) {
+                    problem.set(snapshot.toString());
+                }
+            }
+        });
+        reader.start();
+
+        SplittableRandom random = new SplittableRandom(5);
+        for (int game = 0; game < 200; game++) {
+            othello.newGame();
+            while (othello.whoseTurn() != _) {
+                List<Position> moves = othello.getBoard().validMoves(othello.whoseTurn());
+                othello.placePiece(moves.get(random.nextInt(moves.size())));
+            }
+        }
+        done.set(true);
+        reader.join();
+
+        assertThat(problem.get(), nullValue());
+    }
 }
@@ -0,0 +1,54 @@
+package othello.core;
+
+import org.junit.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.IsEqual.equalTo;
+import static othello.core.Player.*;
+
+public class PerftTest {
+
+    @Test
+    public void countsMatchPublishedValuesFromStartPosition() {
+        Perft perft = new Perft();
+
+        for (int depth = 0; depth <= 8; depth++) {
+            assertThat(perft.count(depth), equalTo(Perft.REFERENCE_COUNTS[depth]));
+        }
+    }
+
+    @Test
+    public void canCountFromAnyPosition() {
+        Board board = new Board();
+        board.makeMove(X, new Position(3, 2));
+
+        assertThat(new Perft(board, O).count(1), equalTo((long) Long.bitCount(board.legalMoves(O))));
+        assertThat(new Perft(board, O).count(7), equalTo(Perft.REFERENCE_COUNTS[8] / 4));
+    }
+
+    @Test
+    public void finishedGameCountsAsSingleLeaf() {
+        Othello othello = new Othello();
+        othello.newGame();
+        othello.placePiece(new Position(4, 5));
+        othello.placePiece(new Position(5, 3));
+        othello.placePiece(new Position(4, 2));
+        othello.placePiece(new Position(3, 5));
+        othello.placePiece(new Position(2, 4));
+        othello.placePiece(new Position(5, 5));
+        othello.placePiece(new Position(4, 6));
+        othello.placePiece(new Position(5, 4));
+        othello.placePiece(new Position(6, 4));
+
+        assertThat(new Perft(othello.getBoard(), O).count(5), equalTo(1L));
+    }
+
+    @Test
+    public void perftDoesNotChangeTheBoard() {
+        Board board = new Board();
+        new Perft(board, X).count(4);
+
+        assertThat(board.movesMade(), equalTo(0));
+        assertThat(board.legalMoves(X), equalTo(new Board().legalMoves(X)));
+    }
+}
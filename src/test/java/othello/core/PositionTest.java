@@ -11,6 +11,8 @@ import java.util.function.Function;
 import static com.google.common.collect.Lists.newArrayList;
 import static junit.framework.TestCase.assertTrue;
 import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.core.IsEqual.equalTo;
 import static org.junit.Assert.assertFalse;
@@ -125,6 +127,24 @@ public class PositionTest {
         assertThat(transform.andThen(transform).apply(start), equalTo(new Position(-1, -1)));
     }
 
+    @Test
+    public void transformCanStepBackwardsMoreThanOneSquare() {
+        Position start = new Position(5, 5);
+        Position next = new Position(3, 4);
+
+        Function<Position, Position> transform = start.getPositionTransform(next);
+
+        assertThat(transform.apply(next), equalTo(new Position(1, 3)));
+    }
+
+    @Test
+    public void errorIsThrownWhenTryingToGetDirectionOfPositionsNotNextToEachOther() {
+        failure.expect(InvalidTransformException.class);
+        failure.expectMessage("Can only create transform from positions next to each other.");
+
+        new Position(5, 5).getDirection(new Position(3, 4));
+    }
+
     @Test
     public void errorIsThrownWhenTryingToCreateTransformWithPositionsNotNextToEachOther() {
         Position start = new Position(1, 1);
@@ -145,4 +165,39 @@ public class PositionTest {
 
         Function<Position, Position> transform = start.getPositionTransform(start);
     }
+
+    @Test
+    public void positionsOnTheBoardAreInterned() {
+        assertThat(Position.at(2, 5), sameInstance(Position.at(2, 5)));
+        assertThat(Position.at(2, 5), sameInstance(Position.of(21)));
+        assertThat(Position.at(2, 5).square(), equalTo(21));
+        assertThat(Position.at(2, 5), equalTo(new Position(2, 5)));
+    }
+
+    @Test
+    public void positionsOffTheBoardAreNotInterned() {
+        assertThat(Position.at(-1, 3), equalTo(new Position(-1, 3)));
+        assertThat(Position.at(8, 0), not(sameInstance(Position.at(8, 0))));
+    }
+
+    @Test
+    public void neighboursAreShared() {
+        assertThat(new Position(3, 3).getNeighbours(), sameInstance(Position.at(3, 3).getNeighbours()));
+    }
+
+    @Test
+    public void canWalkRaysWithoutLeavingTheBoard() {
+        Position position = Position.at(5, 2);
+
+        assertThat(position.next(Direction.NORTH_EAST), sameInstance(Position.at(4, 3)));
+        assertThat(position.next(Direction.SOUTH).next(Direction.SOUTH), sameInstance(Position.at(7, 2)));
+        assertThat(Position.at(7, 2).next(Direction.SOUTH), nullValue());
+        assertThat(Position.at(0, 0).next(Direction.NORTH_WEST), nullValue());
+    }
+
+    @Test
+    public void canGetDirectionBetweenNeighbours() {
+        assertThat(Position.at(3, 3).getDirection(Position.at(2, 4)), equalTo(Direction.NORTH_EAST));
+        assertThat(Position.at(3, 3).getPositionTransform(Position.at(4, 3)), sameInstance(Direction.SOUTH.transform()));
+    }
 }
@@ -0,0 +1,94 @@
+package othello.core;
+
+import org.junit.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static helpers.BoardMatcher.matchesBoard;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.IsEqual.equalTo;
+import static othello.core.Player.*;
+
+public class SymmetryTest {
+
+    @Test
+    public void bitTransformsMatchSquareTransforms() {
+        for (int symmetry = 0; symmetry < Symmetry.COUNT; symmetry++) {
+            for (int square = 0; square < 64; square++) {
+                long expected = Bitboards.bit(Symmetry.transformSquare(square, symmetry));
+                assertThat(Symmetry.transform(Bitboards.bit(square), symmetry), equalTo(expected));
+            }
+        }
+    }
+
+    @Test
+    public void allEightSymmetriesAreDistinct() {
+        Set<Long> images = new HashSet<>();
+        long asymmetric = Bitboards.bit(Bitboards.square(0, 1)) | Bitboards.bit(Bitboards.square(2, 5));
+        for (int symmetry = 0; symmetry < Symmetry.COUNT; symmetry++) {
+            images.add(Symmetry.transform(asymmetric, symmetry));
+        }
+
+        assertThat(images.size(), equalTo(8));
+    }
+
+    @Test
+    public void inverseUndoesEachSymmetry() {
+        long board = 0x0123456789ABCDEFL;
+        for (int symmetry = 0; symmetry < Symmetry.COUNT; symmetry++) {
+            long transformed = Symmetry.transform(board, symmetry);
+            assertThat(Symmetry.transform(transformed, Symmetry.inverse(symmetry)), equalTo(board));
+        }
+    }
+
+    @Test
+    public void symmetricPositionsShareCanonicalHash() {
+        Board board = new Board();
+        board.makeMove(X, new Position(2, 3));
+        board.makeMove(O, new Position(2, 2));
+
+        for (int symmetry = 0; symmetry < Symmetry.COUNT; symmetry++) {
+            Board transformed = board.transform(symmetry);
+            assertThat(Symmetry.canonicalHash(transformed, X), equalTo(Symmetry.canonicalHash(board, X)));
+        }
+    }
+
+    @Test
+    public void movesCanBeMappedToAndFromCanonicalForm() {
+        Board board = new Board();
+        board.makeMove(X, new Position(2, 3));
+        board.makeMove(O, new Position(2, 2));
+        board.makeMove(X, new Position(3, 2));
+
+        int symmetry = Symmetry.canonicalSymmetry(board, O);
+        Board canonical = board.transform(symmetry);
+
+        MoveIterator moves = new MoveIterator(board.legalMoves(O));
+        while (moves.hasNext()) {
+            int square = moves.nextSquare();
+            int canonicalSquare = Symmetry.toCanonical(square, symmetry);
+
+            assertThat(Symmetry.fromCanonical(canonicalSquare, symmetry), equalTo(square));
+            assertThat(canonical.flips(O, canonicalSquare), equalTo(Symmetry.transform(board.flips(O, square), symmetry)));
+        }
+        assertThat(canonical.legalMoves(O), equalTo(Symmetry.transform(board.legalMoves(O), symmetry)));
+    }
+
+    @Test
+    public void transposeSwapsRowsAndColumns() {
+        Board board = new Board();
+        board.makeMove(X, new Position(3, 2));
+
+        assertThat(board.transform(4).render(), matchesBoard(new Player[][] {
+                {_, _, _, _, _, _, _, _},
+                {_, _, _, _, _, _, _, _},
+                {_, _, _, X, _, _, _, _},
+                {_, _, _, X, X, _, _, _},
+                {_, _, _, X, O, _, _, _},
+                {_, _, _, _, _, _, _, _},
+                {_, _, _, _, _, _, _, _},
+                {_, _, _, _, _, _, _, _}
+        }));
+    }
+}
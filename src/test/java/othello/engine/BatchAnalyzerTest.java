@@ -0,0 +1,106 @@
+package othello.engine;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import othello.core.Bitboards;
+import othello.core.Othello;
+import othello.core.Player;
+import othello.selfplay.RandomStrategy;
+
+import static junit.framework.TestCase.assertTrue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.IsEqual.equalTo;
+
+public class BatchAnalyzerTest {
+
+    private BatchAnalyzer analyzer;
+    private long[] positions;
+
+    @Before
+    public void setUp() {
+        analyzer = new BatchAnalyzer(new SimpleEvaluator(), 4, 2, 1);
+
+        Othello othello = new Othello();
+        othello.newGame();
+        RandomStrategy random = new RandomStrategy(11);
+        positions = new long[80];
+        for (int i = 0; i < positions.length; i += 2) {
+            if (othello.whoseTurn() == Player._) othello.newGame();
+            positions[i] = othello.getBoard().pieces(othello.whoseTurn());
+            positions[i + 1] = othello.getBoard().pieces(othello.whoseTurn().opponent());
+            othello.placePiece(random.chooseMove(othello.getBoard(), othello.whoseTurn()));
+        }
+    }
+
+    @After
+    public void tearDown() {
+        analyzer.close();
+    }
+
+    @Test
+    public void evaluationsMatchTheEvaluator() {
+        int[] scores = analyzer.evaluate(positions);
+
+        SimpleEvaluator evaluator = new SimpleEvaluator();
+        for (int i = 0; i < scores.length; i++) {
+            assertThat(scores[i], equalTo(evaluator.evaluate(positions[2 * i], positions[2 * i + 1])));
+        }
+    }
+
+    @Test
+    public void everyPositionIsSearchedToFullDepth() {
+        BatchResult result = analyzer.search(positions, 60_000);
+
+        assertThat(result.size(), equalTo(positions.length / 2));
+        assertThat(result.searched, equalTo(result.size()));
+        for (int i = 0; i < result.size(); i++) {
+            long legal = Bitboards.legalMoves(positions[2 * i], positions[2 * i + 1]);
+            assertTrue((legal & Bitboards.bit(result.moves[i])) != 0);
+            assertThat(result.depths[i], equalTo(4));
+        }
+    }
+
+    @Test
+    public void positionsWithoutMovesHaveNoMove() {
+        BatchResult result = analyzer.search(new long[]{Bitboards.bit(0), 0}, 60_000);
+
+        assertThat(result.moves[0], equalTo(BatchResult.NO_MOVE));
+    }
+
+    @Test
+    public void positionsAfterTheDeadlineAreLeftUnsearched() {
+        BatchResult result = analyzer.search(positions, 0);
+
+        assertThat(result.searched, equalTo(0));
+        for (int i = 0; i < result.size(); i++) {
+            assertThat(result.moves[i], equalTo(BatchResult.NO_MOVE));
+            assertThat(result.depths[i], equalTo(0));
+        }
+    }
+
+    @Test
+    public void deadlineIsSpreadOverTheWholeBatch() {
+        long[] batch = new long[400];
+        for (int i = 0; i < batch.length; i += 2) {
+            batch[i] = positions[i % positions.length];
+            batch[i + 1] = positions[i % positions.length + 1];
+        }
+
+        try (BatchAnalyzer deep = new BatchAnalyzer(new SimpleEvaluator(), Searcher.MAX_DEPTH, 2, 1)) {
+            BatchResult result = deep.search(batch, 500);
+
+            // searches only notice the clock every few thousand nodes, so the last one or two may find it already gone
+            assertTrue(result.toString(), result.searched >= result.size() * 19 / 20);
+            assertTrue(result.toString(), result.elapsedMillis < 2_000);
+            for (int i = 0; i < result.size(); i++) {
+                if (result.moves[i] != BatchResult.NO_MOVE) assertTrue(result.depths[i] >= 1);
+            }
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void positionsMustBePairs() {
+        analyzer.evaluate(new long[3]);
+    }
+}
@@ -0,0 +1,104 @@
+package othello.engine;
+
+import org.junit.Test;
+import othello.core.Bitboards;
+import othello.core.Board;
+import othello.core.MoveIterator;
+import othello.core.Othello;
+import othello.core.Player;
+import othello.core.Position;
+
+import java.util.Random;
+
+import static junit.framework.TestCase.assertTrue;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.IsEqual.equalTo;
+
+public class EndgameSolverTest {
+
+    @Test
+    public void solvedScoresMatchExhaustiveSearch() {
+        Random random = new Random(7);
+        EndgameSolver solver = new EndgameSolver();
+
+        for (int game = 0; game < 20; game++) {
+            Othello othello = playRandomly(random, 9);
+            Board board = othello.getBoard();
+            Player player = othello.whoseTurn();
+            if (player == Player._) continue;
+
+            SearchResult result = solver.solve(board, player);
+
+            assertThat(result.score, equalTo(exhaustive(board.pieces(player), board.pieces(player.opponent()), false)));
+            Board after = board.copy();
+            after.makeMove(player, result.move);
+            assertThat(-exhaustive(after.pieces(player.opponent()), after.pieces(player), false), equalTo(result.score));
+        }
+    }
+
+    @Test
+    public void finishedGameHasNoMoveAndFinalDifference() {
+        Othello othello = new Othello();
+        othello.newGame();
+        othello.placePiece(new Position(4, 5));
+        othello.placePiece(new Position(5, 3));
+        othello.placePiece(new Position(4, 2));
+        othello.placePiece(new Position(3, 5));
+        othello.placePiece(new Position(2, 4));
+        othello.placePiece(new Position(5, 5));
+        othello.placePiece(new Position(4, 6));
+        othello.placePiece(new Position(5, 4));
+        othello.placePiece(new Position(6, 4));
+
+        SearchResult result = new EndgameSolver(64).solve(othello.getBoard(), Player.O);
+
+        assertThat(result.move, nullValue());
+        assertThat(result.score, equalTo(-13));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void errorIsThrownWhenTooManyEmptiesRemain() {
+        new EndgameSolver().solve(new Board(), Player.X);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void errorIsThrownForAFinishedGame() {
+        new EndgameSolver(60).solve(new Board(), Player._);
+    }
+
+    @Test
+    public void canCheckWhetherPositionIsSolvable() {
+        assertTrue(new EndgameSolver(60).canSolve(new Board()));
+        assertTrue(!new EndgameSolver(59).canSolve(new Board()));
+    }
+
+    private static Othello playRandomly(Random random, int empties) {
+        Othello othello = new Othello();
+        othello.newGame();
+        while (othello.whoseTurn() != Player._ && Long.bitCount(othello.getBoard().pieces(Player._)) > empties) {
+            long moves = othello.getBoard().legalMoves(othello.whoseTurn());
+            int choice = random.nextInt(Long.bitCount(moves));
+            MoveIterator iterator = new MoveIterator(moves);
+            for (int i = 0; i < choice; i++) iterator.nextSquare();
+            othello.placePiece(iterator.nextPosition());
+        }
+        return othello;
+    }
+
+    private static int exhaustive(long own, long opponent, boolean passed) {
+        long moves = Bitboards.legalMoves(own, opponent);
+        if (moves == 0) {
+            if (passed) return Long.bitCount(own) - Long.bitCount(opponent);
+            return -exhaustive(opponent, own, true);
+        }
+
+        int best = Integer.MIN_VALUE;
+        for (; moves != 0; moves &= moves - 1) {
+            int square = Long.numberOfTrailingZeros(moves);
+            long flips = Bitboards.flips(own, opponent, square);
+            best = Math.max(best, -exhaustive(opponent & ~flips, own | flips | Bitboards.bit(square), false));
+        }
+        return best;
+    }
+}
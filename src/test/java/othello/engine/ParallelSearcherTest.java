@@ -0,0 +1,59 @@
+package othello.engine;
+
+import org.junit.Before;
+import org.junit.Test;
+import othello.core.Othello;
+import othello.core.Position;
+
+import static junit.framework.TestCase.assertTrue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.IsEqual.equalTo;
+import static othello.core.Player.X;
+
+public class ParallelSearcherTest {
+
+    private Othello othello;
+
+    @Before
+    public void setUp() {
+        othello = new Othello();
+        othello.newGame();
+        othello.placePiece(new Position(5, 4));
+        othello.placePiece(new Position(5, 5));
+    }
+
+    @Test
+    public void singleThreadedSearchMatchesPlainSearcher() {
+        SearchResult expected = new Searcher(new SimpleEvaluator(), 6).search(othello, 10_000);
+
+        try (ParallelSearcher searcher = new ParallelSearcher(new SimpleEvaluator(), 6, 1, new TranspositionTable())) {
+            SearchResult actual = searcher.search(othello, 10_000);
+
+            assertThat(actual.move, equalTo(expected.move));
+            assertThat(actual.score, equalTo(expected.score));
+            assertThat(actual.nodes, equalTo(expected.nodes));
+        }
+    }
+
+    @Test
+    public void singleThreadedSearchIsRepeatable() {
+        try (ParallelSearcher searcher = new ParallelSearcher(new SimpleEvaluator(), 6, 1, new TranspositionTable())) {
+            SearchResult first = searcher.search(othello, 10_000);
+            SearchResult second = new ParallelSearcher(new SimpleEvaluator(), 6, 1, new TranspositionTable()).search(othello, 10_000);
+
+            assertThat(second.move, equalTo(first.move));
+            assertThat(second.nodes, equalTo(first.nodes));
+        }
+    }
+
+    @Test
+    public void multiThreadedSearchReturnsLegalMoveAndCountsAllNodes() {
+        try (ParallelSearcher searcher = new ParallelSearcher(new SimpleEvaluator(), 7, 4, new TranspositionTable())) {
+            SearchResult result = searcher.search(othello, 10_000);
+
+            assertTrue(othello.getBoard().validMoves(X).contains(result.move));
+            assertThat(result.depth, equalTo(7));
+            assertTrue(result.nodes > 0);
+        }
+    }
+}
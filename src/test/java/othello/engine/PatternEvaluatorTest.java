@@ -0,0 +1,149 @@
+package othello.engine;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import othello.core.Bitboards;
+import othello.core.Othello;
+import othello.core.Player;
+import othello.core.Symmetry;
+import othello.selfplay.RandomStrategy;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+import static junit.framework.TestCase.assertTrue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.IsEqual.equalTo;
+
+public class PatternEvaluatorTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void everyOrientationOfEachPatternIsScoredOnce() {
+        assertThat(PatternEvaluator.instanceCount(), equalTo(4 + 4 + 8 + 4 + 4 + 4 + 2 + 4 + 4 + 4 + 4));
+    }
+
+    @Test
+    public void cornerOutweighsXSquare() {
+        PatternEvaluator evaluator = new PatternEvaluator();
+
+        assertTrue(evaluator.evaluate(1L, 0) > evaluator.evaluate(1L << 9, 0));
+    }
+
+    @Test
+    public void evaluationIsSymmetricAndZeroSum() {
+        PatternEvaluator evaluator = new PatternEvaluator();
+        Othello othello = new Othello();
+        othello.newGame();
+        RandomStrategy random = new RandomStrategy(3);
+        for (int ply = 0; ply < 30 && othello.whoseTurn() != Player._; ply++) {
+            othello.placePiece(random.chooseMove(othello.getBoard(), othello.whoseTurn()));
+        }
+        long own = othello.getBoard().pieces(Player.X);
+        long opponent = othello.getBoard().pieces(Player.O);
+
+        int score = evaluator.evaluate(own, opponent);
+        assertThat(evaluator.evaluate(opponent, own), equalTo(-score));
+        for (int symmetry = 0; symmetry < Symmetry.COUNT; symmetry++) {
+            assertThat(evaluator.evaluate(Symmetry.transform(own, symmetry), Symmetry.transform(opponent, symmetry)), equalTo(score));
+        }
+    }
+
+    @Test
+    public void stagesFollowDiscCount() {
+        PatternWeights weights = new PatternWeights(4);
+
+        assertThat(weights.stage(4), equalTo(0));
+        assertThat(weights.stage(64), equalTo(3));
+    }
+
+    @Test
+    public void boardsWithFewerThanFourDiscsUseTheFirstStage() {
+        PatternWeights weights = new PatternWeights(61);
+
+        assertThat(weights.stage(1), equalTo(0));
+        assertThat(new PatternEvaluator(weights).evaluate(1L << 63, 0), equalTo(0));
+    }
+
+    @Test
+    public void weightsSurviveSaveAndLoad() throws IOException {
+        PatternWeights weights = new PatternWeights(2);
+        weights.setWeight(1, Pattern.CORNER_3X3, 1, 250);
+        weights.setWeight(1, Pattern.DIAGONAL_4, 80, -7);
+        weights.setMobility(1, 12);
+
+        Path path = folder.newFile("weights.bin").toPath();
+        weights.save(path);
+        PatternWeights loaded = PatternWeights.load(path);
+
+        assertThat(loaded.stages(), equalTo(2));
+        assertThat(loaded.weight(1, Pattern.CORNER_3X3, 1), equalTo((short) 250));
+        assertThat(loaded.weight(1, Pattern.DIAGONAL_4, 80), equalTo((short) -7));
+        assertThat(loaded.mobility(1), equalTo(12));
+        assertThat(new PatternEvaluator(loaded).evaluate(1L << 63, 1L << 62), equalTo(new PatternEvaluator(weights).evaluate(1L << 63, 1L << 62)));
+    }
+
+    @Test(expected = IOException.class)
+    public void truncatedWeightFilesAreRejected() throws IOException {
+        Path path = folder.newFile("weights.bin").toPath();
+        new PatternWeights(1).save(path);
+        byte[] bytes = Files.readAllBytes(path);
+        Files.write(path, Arrays.copyOf(bytes, bytes.length - 1));
+
+        PatternWeights.load(path);
+    }
+
+    @Test
+    public void searcherCanUsePatternEvaluation() {
+        Othello othello = new Othello();
+        othello.newGame();
+
+        SearchResult result = new Searcher(new PatternEvaluator(), 4).search(othello, 1000);
+
+        assertTrue(othello.getBoard().validMoves(Player.X).contains(result.move));
+    }
+
+    @Test
+    public void matchesSquareBySquareLookup() {
+        SplittableRandom random = new SplittableRandom(7);
+        PatternWeights weights = new PatternWeights(3);
+        for (int stage = 0; stage < weights.stages(); stage++) {
+            for (Pattern pattern : Pattern.values()) {
+                for (int configuration = 0; configuration < pattern.configurations(); configuration++) {
+                    weights.setWeight(stage, pattern, configuration, random.nextInt(-1000, 1000));
+                }
+            }
+        }
+        PatternEvaluator evaluator = new PatternEvaluator(weights);
+
+        for (int i = 0; i < 1000; i++) {
+            long occupied = random.nextLong() | random.nextLong();
+            long own = occupied & random.nextLong();
+            long opponent = occupied & ~own;
+
+            assertThat(evaluator.evaluate(own, opponent), equalTo(referenceScore(weights, own, opponent)));
+        }
+    }
+
+    private static int referenceScore(PatternWeights weights, long own, long opponent) {
+        int stage = weights.stage(Long.bitCount(own | opponent));
+        int score = 0;
+        for (int instance = 0; instance < PatternEvaluator.INSTANCES.length; instance++) {
+            int configuration = 0;
+            int power = 1;
+            for (int square : PatternEvaluator.INSTANCES[instance]) {
+                configuration += power * (int) ((own >>> square & 1) + 2 * (opponent >>> square & 1));
+                power *= 3;
+            }
+            score += weights.weight(stage, PatternEvaluator.INSTANCE_PATTERNS[instance], configuration);
+        }
+        int mobility = Long.bitCount(Bitboards.legalMoves(own, opponent)) - Long.bitCount(Bitboards.legalMoves(opponent, own));
+        return score + weights.mobility(stage) * mobility;
+    }
+}
@@ -0,0 +1,85 @@
+package othello.engine;
+
+import org.junit.Before;
+import org.junit.Test;
+import othello.core.Board;
+import othello.core.Othello;
+import othello.core.Player;
+import othello.core.Position;
+
+import static helpers.BoardMatcher.matchesBoard;
+import static junit.framework.TestCase.assertTrue;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.IsEqual.equalTo;
+import static othello.core.Player.*;
+
+public class SearcherTest {
+
+    private Othello othello;
+
+    @Before
+    public void setUp() {
+        othello = new Othello();
+        othello.newGame();
+    }
+
+    @Test
+    public void picksALegalOpeningMove() {
+        SearchResult result = new Searcher(new SimpleEvaluator(), 4).search(othello, 1000);
+
+        assertTrue(othello.getBoard().validMoves(X).contains(result.move));
+        assertThat(result.depth, equalTo(4));
+    }
+
+    @Test
+    public void searchDoesNotChangeTheBoard() {
+        othello.placePiece(new Position(5, 4));
+        Board board = othello.getBoard();
+        Player[][] before = board.render();
+
+        new Searcher(new SimpleEvaluator(), 5).search(board, O, 1000);
+
+        assertThat(board.render(), matchesBoard(before));
+    }
+
+    @Test
+    public void findsAMoveThatWinsTheGame() {
+        othello.placePiece(new Position(4, 5));
+        othello.placePiece(new Position(5, 3));
+        othello.placePiece(new Position(4, 2));
+        othello.placePiece(new Position(3, 5));
+        othello.placePiece(new Position(2, 4));
+        othello.placePiece(new Position(5, 5));
+        othello.placePiece(new Position(4, 6));
+        othello.placePiece(new Position(5, 4));
+
+        SearchResult result = new Searcher(new SimpleEvaluator(), 2).search(othello, 1000);
+
+        assertThat(result.move, equalTo(new Position(6, 4)));
+        assertTrue(result.score >= Searcher.WIN);
+    }
+
+    @Test
+    public void searchStopsWithinTimeBudget() {
+        SearchResult result = new Searcher().search(othello, 100);
+
+        assertTrue(result.elapsedMillis < 1000);
+        assertTrue(result.depth >= 1);
+    }
+
+    @Test
+    public void noMoveIsReturnedWhenPlayerCannotMove() {
+        othello.placePiece(new Position(4, 5));
+        othello.placePiece(new Position(5, 3));
+        othello.placePiece(new Position(4, 2));
+        othello.placePiece(new Position(3, 5));
+        othello.placePiece(new Position(2, 4));
+        othello.placePiece(new Position(5, 5));
+        othello.placePiece(new Position(4, 6));
+        othello.placePiece(new Position(5, 4));
+        othello.placePiece(new Position(6, 4));
+
+        assertThat(new Searcher().search(othello, 100).move, nullValue());
+    }
+}
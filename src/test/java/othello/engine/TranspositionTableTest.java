@@ -0,0 +1,66 @@
+package othello.engine;
+
+import org.junit.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.IsEqual.equalTo;
+import static othello.engine.TranspositionTable.*;
+
+public class TranspositionTableTest {
+
+    @Test
+    public void canStoreAndProbeEntry() {
+        TranspositionTable table = new TranspositionTable(1);
+        table.store(0x123456789L, 7, -250, UPPER_BOUND, 42);
+
+        long entry = table.probe(0x123456789L);
+
+        assertThat(depthOf(entry), equalTo(7));
+        assertThat(scoreOf(entry), equalTo(-250));
+        assertThat(flagOf(entry), equalTo(UPPER_BOUND));
+        assertThat(moveOf(entry), equalTo(42));
+    }
+
+    @Test
+    public void missingKeyHasNoEntry() {
+        TranspositionTable table = new TranspositionTable(1);
+        table.store(1L, 3, 10, EXACT, 5);
+
+        assertThat(table.probe(2L), equalTo(NO_ENTRY));
+    }
+
+    @Test
+    public void shallowerEntryDoesNotEvictDeeperEntryInSameBucket() {
+        TranspositionTable table = new TranspositionTable(1);
+        long deep = 1L;
+        long shallow = deep + ((long) table.capacity() << 32);
+
+        table.store(deep, 10, 1, EXACT, 1);
+        table.store(shallow, 2, 2, EXACT, 2);
+
+        assertThat(moveOf(table.probe(deep)), equalTo(1));
+        assertThat(moveOf(table.probe(shallow)), equalTo(2));
+    }
+
+    @Test
+    public void entriesFromOlderSearchesAreReplaced() {
+        TranspositionTable table = new TranspositionTable(1);
+        long old = 1L;
+        long fresh = old + ((long) table.capacity() << 32);
+
+        table.store(old, 10, 1, EXACT, 1);
+        table.newSearch();
+        table.store(fresh, 2, 2, EXACT, 2);
+
+        assertThat(moveOf(table.probe(fresh)), equalTo(2));
+    }
+
+    @Test
+    public void clearRemovesAllEntries() {
+        TranspositionTable table = new TranspositionTable(1);
+        table.store(1L, 3, 10, EXACT, 5);
+        table.clear();
+
+        assertThat(table.probe(1L), equalTo(NO_ENTRY));
+    }
+}
@@ -0,0 +1,141 @@
+package othello.record;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import othello.core.Othello;
+import othello.core.Player;
+import othello.selfplay.RandomStrategy;
+import othello.selfplay.SelfPlayRunner;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.IsEqual.equalTo;
+
+public class GameRecordTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void gamesCanBeReadBackInAnyOrder() throws IOException {
+        Path path = folder.newFile("games.otr").toPath();
+        List<GameResult> games = playGames(50);
+
+        try (GameRecordWriter writer = new GameRecordWriter(path)) {
+            for (GameResult game : games) {
+                writer.write(game);
+            }
+        }
+
+        try (GameRecordReader reader = new GameRecordReader(path)) {
+            assertThat(reader.gameCount(), equalTo(50));
+            for (int game = 49; game >= 0; game--) {
+                GameResult expected = games.get(game);
+                assertThat(reader.moveCount(game), equalTo(expected.moves.length));
+                assertThat(reader.xScore(game), equalTo(expected.xScore));
+                assertThat(reader.oScore(game), equalTo(expected.oScore));
+                assertThat(reader.move(game, 0), equalTo((int) expected.moves[0]));
+            }
+        }
+    }
+
+    @Test
+    public void gamesCanBeReplayedIntoOthello() throws IOException {
+        Path path = folder.newFile("games.otr").toPath();
+        List<GameResult> games = playGames(20);
+
+        try (GameRecordWriter writer = new GameRecordWriter(path)) {
+            for (GameResult game : games) {
+                writer.write(game);
+            }
+        }
+
+        Othello othello = new Othello();
+        try (GameRecordReader reader = new GameRecordReader(path)) {
+            for (int game = 0; game < reader.gameCount(); game++) {
+                reader.replay(game, othello);
+
+                assertThat(othello.whoseTurn(), equalTo(Player._));
+                assertThat(othello.score(Player.X), equalTo(games.get(game).xScore));
+                assertThat(othello.score(Player.O), equalTo(games.get(game).oScore));
+            }
+        }
+    }
+
+    @Test
+    public void gamesCanBeReadAcrossMappedRegions() throws IOException {
+        Path path = folder.newFile("games.otr").toPath();
+        List<GameResult> games = playGames(30);
+
+        try (GameRecordWriter writer = new GameRecordWriter(path)) {
+            for (GameResult game : games) {
+                writer.write(game);
+            }
+        }
+
+        Othello othello = new Othello();
+        try (GameRecordReader reader = new GameRecordReader(path, 6)) {
+            assertThat(reader.gameCount(), equalTo(30));
+            for (int game = 0; game < reader.gameCount(); game++) {
+                GameResult expected = games.get(game);
+                assertThat(reader.moveCount(game), equalTo(expected.moves.length));
+                assertThat(reader.move(game, expected.moves.length - 1), equalTo((int) expected.moves[expected.moves.length - 1]));
+
+                reader.replay(game, othello);
+                assertThat(othello.score(Player.X), equalTo(expected.xScore));
+                assertThat(othello.score(Player.O), equalTo(expected.oScore));
+            }
+        }
+    }
+
+    @Test
+    public void eachMoveTakesOneByte() throws IOException {
+        Path path = folder.newFile("games.otr").toPath();
+        List<GameResult> games = playGames(10);
+        int moves = 0;
+
+        try (GameRecordWriter writer = new GameRecordWriter(path)) {
+            for (GameResult game : games) {
+                writer.write(game);
+                moves += game.moves.length;
+            }
+        }
+
+        long expectedSize = GameRecordFormat.HEADER_SIZE + 10 * (GameRecordFormat.GAME_HEADER_SIZE + 8)
+                + moves + GameRecordFormat.FOOTER_SIZE;
+        assertThat(Files.size(path), equalTo(expectedSize));
+    }
+
+    @Test(expected = IOException.class)
+    public void errorIsThrownForFilesThatAreNotGameRecords() throws IOException {
+        Path path = folder.newFile("games.txt").toPath();
+        Files.write(path, "d3c5f6 X 40 24\nd3c3 - 32 32\n".getBytes());
+
+        new GameRecordReader(path).close();
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void errorIsThrownForMissingGame() throws IOException {
+        Path path = folder.newFile("games.otr").toPath();
+        new GameRecordWriter(path).close();
+
+        try (GameRecordReader reader = new GameRecordReader(path)) {
+            reader.moveCount(0);
+        }
+    }
+
+    private static List<GameResult> playGames(int count) {
+        List<GameResult> games = new ArrayList<>();
+        Othello othello = new Othello();
+        for (int i = 0; i < count; i++) {
+            games.add(SelfPlayRunner.play(othello, new RandomStrategy(i), new RandomStrategy(-i)));
+        }
+        return games;
+    }
+}
@@ -0,0 +1,77 @@
+package othello.selfplay;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import othello.core.Othello;
+import othello.core.Player;
+import othello.core.Position;
+import othello.record.GameResult;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static junit.framework.TestCase.assertTrue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.IsEqual.equalTo;
+
+public class SelfPlayRunnerTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void writesOneReplayableLinePerGame() throws IOException {
+        AtomicLong seeds = new AtomicLong();
+        File output = folder.newFile("games.txt");
+
+        SelfPlaySummary summary = new SelfPlayRunner(() -> new RandomStrategy(seeds.incrementAndGet()),
+                () -> new RandomStrategy(seeds.incrementAndGet()), 3).run(25, output.toPath());
+
+        List<String> lines = Files.readAllLines(output.toPath());
+        assertThat(lines.size(), equalTo(25));
+        assertThat(summary.xWins + summary.oWins + summary.draws, equalTo(25));
+
+        for (String line : lines) {
+            String[] fields = line.split(" ");
+            Othello othello = new Othello();
+            othello.newGame();
+            for (int i = 0; i < fields[0].length(); i += 2) {
+                othello.placePiece(new Position(fields[0].charAt(i + 1) - '1', fields[0].charAt(i) - 'a'));
+            }
+
+            assertThat(othello.whoseTurn(), equalTo(Player._));
+            assertThat(Integer.parseInt(fields[2]), equalTo(othello.score(Player.X)));
+            assertThat(Integer.parseInt(fields[3]), equalTo(othello.score(Player.O)));
+        }
+    }
+
+    @Test
+    public void canPlaySingleGameBetweenStrategies() {
+        GameResult result = SelfPlayRunner.play(new Othello(), new SearchStrategy(2, 1000), new RandomStrategy(1));
+
+        assertTrue(result.moves.length >= 9);
+        assertTrue(result.xScore + result.oScore <= 64);
+    }
+
+    @Test
+    public void winnerIsDecidedByScore() {
+        assertThat(new GameResult(new byte[0], 40, 24).winner(), equalTo(Player.X));
+        assertThat(new GameResult(new byte[0], 24, 40).winner(), equalTo(Player.O));
+        assertThat(new GameResult(new byte[0], 32, 32).winner(), equalTo(Player._));
+        assertThat(new GameResult(new byte[]{19, 18}, 32, 32).toLine(), equalTo("d3c3 - 32 32"));
+    }
+
+    @Test
+    public void gameLinesCanBeParsedBack() {
+        GameResult result = GameResult.parse("d3c3 O 20 44");
+
+        assertThat(result.moves, equalTo(new byte[]{19, 18}));
+        assertThat(result.xScore, equalTo(20));
+        assertThat(result.oScore, equalTo(44));
+        assertThat(result.toLine(), equalTo("d3c3 O 20 44"));
+    }
+}
@@ -0,0 +1,93 @@
+package othello.server;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.IsEqual.equalTo;
+
+public class SessionManagerTest {
+
+    private static final String START = "---------------------------OX------XO---------------------------";
+
+    private SessionManager sessions;
+
+    @Before
+    public void setUp() {
+        sessions = new SessionManager(4);
+    }
+
+    @After
+    public void tearDown() {
+        sessions.close();
+    }
+
+    @Test
+    public void canPlayAGameThroughCommands() {
+        String id = sessions.handle("new").join().substring(3);
+
+        assertThat(sessions.handle("state " + id).join(), equalTo("OK " + START + " X 2 2"));
+        assertThat(sessions.handle("move " + id + " d3").join(),
+                equalTo("OK -------------------X-------XX------XO--------------------------- O 4 1"));
+        assertThat(sessions.handle("undo " + id).join(), equalTo("OK " + START + " X 2 2"));
+    }
+
+    @Test
+    public void failuresAreReportedAsErrors() {
+        String id = sessions.handle("new").join().substring(3);
+
+        assertThat(sessions.handle("move " + id + " a1").join(), equalTo("ERR Cannot place piece here, no opponent pieces will be taken."));
+        assertThat(sessions.handle("move " + id + " z9").join(), equalTo("ERR z9 is not a square."));
+        assertThat(sessions.handle("undo " + id).join(), equalTo("ERR No moves to undo."));
+        assertThat(sessions.handle("state 999").join(), equalTo("ERR No game with id 999."));
+        assertThat(sessions.handle("dance").join(), equalTo("ERR Unknown command: dance."));
+    }
+
+    @Test
+    public void sessionKeepsRunningAfterACommandThrowsAnError() {
+        GameSession session = sessions.create();
+
+        CompletableFuture<Object> failed = session.submit(othello -> {
+            throw new AssertionError("boom");
+        });
+        CompletableFuture<String> next = session.submit(othello -> "still here");
+
+        assertThat(failed.handle((value, e) -> e).join(), instanceOf(AssertionError.class));
+        assertThat(next.join(), equalTo("still here"));
+    }
+
+    @Test
+    public void endedGamesAreRemoved() {
+        String id = sessions.handle("new").join().substring(3);
+
+        assertThat(sessions.handle("end " + id).join(), equalTo("OK"));
+        assertThat(sessions.size(), equalTo(0));
+        assertThat(sessions.handle("state " + id).join(), equalTo("ERR No game with id " + id + "."));
+    }
+
+    @Test
+    public void manyGamesRunConcurrentlyWithMovesInOrder() {
+        List<String> ids = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            ids.add(sessions.create().id());
+        }
+
+        List<CompletableFuture<String>> replies = new ArrayList<>();
+        for (String id : ids) {
+            sessions.handle("move " + id + " d3");
+            sessions.handle("move " + id + " c3");
+            replies.add(sessions.handle("move " + id + " b3"));
+        }
+
+        for (CompletableFuture<String> reply : replies) {
+            assertThat(reply.join(), equalTo("OK -----------------XXX-------OX------XO--------------------------- O 5 2"));
+        }
+        assertThat(sessions.size(), equalTo(1000));
+    }
+}
@@ -0,0 +1,71 @@
+package othello.server;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.IsEqual.equalTo;
+import static org.hamcrest.core.IsNull.nullValue;
+
+public class SessionServerTest {
+
+    private SessionManager sessions;
+    private SessionServer server;
+
+    @Before
+    public void setUp() throws IOException {
+        sessions = new SessionManager(2);
+        server = new SessionServer(sessions, 0);
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        server.close();
+        sessions.close();
+    }
+
+    @Test
+    public void pipelinedCommandsAreAnsweredInOrder() throws IOException {
+        try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), server.port())) {
+            OutputStream output = socket.getOutputStream();
+            BufferedReader input = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.US_ASCII));
+
+            output.write("new\nnew\n".getBytes(StandardCharsets.US_ASCII));
+            assertThat(input.readLine(), equalTo("OK 1"));
+            assertThat(input.readLine(), equalTo("OK 2"));
+
+            output.write("move 1 d3\nstate 2\nmove 1 a1\r\nquit\n".getBytes(StandardCharsets.US_ASCII));
+            assertThat(input.readLine(), equalTo("OK -------------------X-------XX------XO--------------------------- O 4 1"));
+            assertThat(input.readLine(), equalTo("OK ---------------------------OX------XO--------------------------- X 2 2"));
+            assertThat(input.readLine(), equalTo("ERR Cannot place piece here, no opponent pieces will be taken."));
+            assertThat(input.readLine(), equalTo("BYE"));
+            assertThat(input.readLine(), nullValue());
+        }
+    }
+
+    @Test
+    public void overlongCommandsAreRejectedWithoutRunningAPrefix() throws IOException {
+        try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), server.port())) {
+            OutputStream output = socket.getOutputStream();
+            BufferedReader input = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.US_ASCII));
+
+            StringBuilder command = new StringBuilder("new");
+            while (command.length() <= 1024) command.append(' ');
+            output.write((command + "x\nstate 1\nquit\n").getBytes(StandardCharsets.US_ASCII));
+
+            assertThat(input.readLine(), equalTo("ERR Command longer than 1024 characters."));
+            assertThat(input.readLine(), equalTo("ERR No game with id 1."));
+            assertThat(input.readLine(), equalTo("BYE"));
+        }
+        assertThat(sessions.size(), equalTo(0));
+    }
+}
@@ -0,0 +1,155 @@
+package othello.training;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import othello.core.Othello;
+import othello.core.Player;
+import othello.record.GameRecordReader;
+import othello.record.GameRecordWriter;
+import othello.selfplay.RandomStrategy;
+import othello.selfplay.SelfPlayRunner;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import static junit.framework.TestCase.assertTrue;
+import static junit.framework.TestCase.fail;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.IsEqual.equalTo;
+import static org.junit.Assert.assertFalse;
+
+public class PositionExporterTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void symmetricOpeningsAreExportedOnce() throws IOException {
+        Path output = folder.newFile("positions.bin").toPath();
+
+        try (PositionExporter exporter = new PositionExporter(output, 1000)) {
+            exporter.addGame(new byte[]{19}, 1);
+            exporter.addGame(new byte[]{26}, 1);
+            exporter.addGame(new byte[]{37}, 1);
+            exporter.addGame(new byte[]{44}, 1);
+
+            assertThat(exporter.positionsWritten(), equalTo(1L));
+        }
+        assertThat(Files.size(output), equalTo((long) PositionExporter.RECORD_SIZE));
+    }
+
+    @Test
+    public void recordsAreLabelledFromSideToMove() throws IOException {
+        Path output = folder.newFile("positions.bin").toPath();
+        Othello othello = new Othello();
+        byte[] moves = SelfPlayRunner.play(othello, new RandomStrategy(1), new RandomStrategy(2)).moves;
+        int xDifference = othello.score(Player.X) - othello.score(Player.O);
+
+        try (PositionExporter exporter = new PositionExporter(output, 1000)) {
+            exporter.addGame(moves, moves.length);
+        }
+
+        ByteBuffer records = ByteBuffer.wrap(Files.readAllBytes(output));
+        assertThat(records.remaining(), equalTo(moves.length * PositionExporter.RECORD_SIZE));
+        while (records.hasRemaining()) {
+            long own = records.getLong();
+            long opponent = records.getLong();
+            int sideToMove = records.get();
+            int result = records.get();
+            int difference = records.get();
+
+            assertThat((own & opponent), equalTo(0L));
+            assertThat(difference, equalTo(sideToMove == 0 ? xDifference : -xDifference));
+            assertThat(result, equalTo(Integer.signum(difference)));
+        }
+    }
+
+    @Test
+    public void interruptedExportCanResume() throws IOException {
+        Path games = folder.newFile("games.otr").toPath();
+        try (GameRecordWriter writer = new GameRecordWriter(games)) {
+            Othello othello = new Othello();
+            for (int i = 0; i < 40; i++) {
+                writer.write(SelfPlayRunner.play(othello, new RandomStrategy(i), new RandomStrategy(i + 100)));
+            }
+        }
+
+        Path single = folder.newFile("single.bin").toPath();
+        Path resumed = folder.newFile("resumed.bin").toPath();
+        try (GameRecordReader reader = new GameRecordReader(games)) {
+            try (PositionExporter exporter = new PositionExporter(single, 10_000)) {
+                exporter.export(reader);
+                assertThat(exporter.gamesConsumed(), equalTo(40L));
+            }
+
+            try (PositionExporter exporter = new PositionExporter(resumed, 10_000)) {
+                byte[] moves = new byte[60];
+                for (int game = 0; game < 15; game++) {
+                    for (int ply = 0; ply < reader.moveCount(game); ply++) moves[ply] = (byte) reader.move(game, ply);
+                    exporter.addGame(moves, reader.moveCount(game));
+                }
+            }
+            Files.write(resumed, new byte[]{1, 2, 3}, StandardOpenOption.APPEND);
+
+            try (PositionExporter exporter = new PositionExporter(resumed, 10_000)) {
+                assertThat(exporter.gamesConsumed(), equalTo(15L));
+                exporter.export(reader);
+                assertThat(exporter.gamesConsumed(), equalTo(40L));
+            }
+        }
+
+        assertThat(Files.size(resumed), equalTo(Files.size(single)));
+    }
+
+    @Test
+    public void resumingAgainstADifferentArchiveIsRejected() throws IOException {
+        Path original = writeGames("original.otr", 0);
+        Path regenerated = writeGames("regenerated.otr", 1000);
+        Path output = folder.newFile("positions.bin").toPath();
+
+        try (GameRecordReader reader = new GameRecordReader(original);
+             PositionExporter exporter = new PositionExporter(output, 10_000)) {
+            exporter.export(reader);
+        }
+
+        try (GameRecordReader reader = new GameRecordReader(regenerated);
+             PositionExporter exporter = new PositionExporter(output, 10_000)) {
+            exporter.export(reader);
+            fail("Expected the resume to be rejected");
+        } catch (IOException e) {
+            assertThat(e.getMessage(), equalTo("Archive does not start with the 10 games already exported."));
+        }
+    }
+
+    @Test
+    public void deduplicationSetHasFixedCapacity() {
+        LongHashSet set = new LongHashSet(3);
+        assertTrue(set.add(10));
+        assertFalse(set.add(10));
+        assertTrue(set.add(0));
+        assertTrue(set.add(20));
+        assertThat(set.size(), equalTo(3));
+
+        try {
+            set.add(30);
+            fail("Expected the set to be full");
+        } catch (IllegalStateException e) {
+            assertThat(e.getMessage(), equalTo("Deduplication set is full, it holds at most 3 positions."));
+        }
+    }
+
+    private Path writeGames(String name, int seed) throws IOException {
+        Path games = folder.newFile(name).toPath();
+        try (GameRecordWriter writer = new GameRecordWriter(games)) {
+            Othello othello = new Othello();
+            for (int i = 0; i < 10; i++) {
+                writer.write(SelfPlayRunner.play(othello, new RandomStrategy(seed + i), new RandomStrategy(seed + i + 100)));
+            }
+        }
+        return games;
+    }
+}
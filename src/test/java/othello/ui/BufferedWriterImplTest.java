@@ -0,0 +1,125 @@
+package othello.ui;
+
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+
+import static junit.framework.TestCase.assertTrue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.IsEqual.equalTo;
+
+public class BufferedWriterImplTest {
+
+    private static final String NEWLINE = System.lineSeparator();
+
+    @Test
+    public void outputIsHeldUntilFlush() {
+        ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        BufferedWriterImpl writer = new BufferedWriterImpl(stream);
+
+        writer.write("Score: ");
+        writer.writeLine("X = 2");
+        assertThat(stream.size(), equalTo(0));
+
+        writer.flush();
+        assertThat(text(stream), equalTo("Score: X = 2" + NEWLINE));
+    }
+
+    @Test
+    public void charactersCanBeWrittenFromArrays() {
+        ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        BufferedWriterImpl writer = new BufferedWriterImpl(stream);
+
+        writer.write("1 --XO----".toCharArray(), 2, 8);
+        writer.flush();
+
+        assertThat(text(stream), equalTo("--XO----"));
+    }
+
+    @Test
+    public void eachFlushIsOneStreamWrite() {
+        CountingStream stream = new CountingStream();
+        BufferedWriterImpl writer = new BufferedWriterImpl(stream);
+
+        for (int i = 0; i < 20; i++) {
+            writer.write("-");
+        }
+        writer.flush();
+        writer.flush();
+
+        assertThat(stream.writes, equalTo(1));
+    }
+
+    @Test
+    public void largeAndNonAsciiOutputIsEncodedCompletely() {
+        ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        BufferedWriterImpl writer = new BufferedWriterImpl(stream, StandardCharsets.UTF_8);
+        StringBuilder expected = new StringBuilder();
+
+        for (int i = 0; i < 5000; i++) {
+            writer.write("\u00e9\u25cf");
+            expected.append("\u00e9\u25cf");
+        }
+        writer.flush();
+
+        assertThat(text(stream), equalTo(expected.toString()));
+    }
+
+    @Test
+    public void outputUsesTheGivenCharset() {
+        ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        BufferedWriterImpl writer = new BufferedWriterImpl(stream, StandardCharsets.ISO_8859_1);
+
+        writer.write("\u00e9\u25cf");
+        writer.flush();
+
+        assertThat(stream.toByteArray(), equalTo(new byte[]{(byte) 0xE9, '?'}));
+    }
+
+    @Test
+    public void largeFramesAreFlushedEarly() {
+        ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        BufferedWriterImpl writer = new BufferedWriterImpl(stream);
+
+        for (int i = 0; i <= BufferedWriterImpl.FLUSH_THRESHOLD; i++) {
+            writer.write("x");
+        }
+
+        assertThat(stream.size(), equalTo(BufferedWriterImpl.FLUSH_THRESHOLD));
+    }
+
+    @Test
+    public void replFlushesAfterEveryCommand() {
+        CountingStream stream = new CountingStream();
+        OthelloREPL othello = new OthelloREPL(new StringReader("n\n4c\nq"), new BufferedWriterImpl(stream));
+        othello.start();
+
+        assertThat(stream.writes, equalTo(4));
+        assertTrue(new String(stream.bytes.toByteArray(), StandardCharsets.UTF_8).endsWith("Goodbye!" + NEWLINE));
+    }
+
+    private static String text(ByteArrayOutputStream stream) {
+        return new String(stream.toByteArray(), StandardCharsets.UTF_8);
+    }
+
+    private static class CountingStream extends OutputStream {
+
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        int writes;
+
+        @Override
+        public void write(int b) {
+            writes++;
+            bytes.write(b);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            if (len > 0) writes++;
+            bytes.write(b, off, len);
+        }
+    }
+}
@@ -1,16 +1,30 @@
 package othello.ui;
 
 import helpers.FakeWriter;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import othello.book.OpeningBook;
+import othello.book.OpeningBookBuilder;
+import othello.record.GameResult;
 
 import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.core.IsEqual.equalTo;
+import static org.hamcrest.core.StringContains.containsString;
 import static org.hamcrest.core.StringEndsWith.endsWith;
 
 public class OthelloREPLTest {
 
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
     @Test
     public void whenOthelloStartsInstructionsAreShownAndFirstGameStarts() {
         FakeWriter output = new FakeWriter();
@@ -42,12 +56,18 @@ public class OthelloREPLTest {
                 "\n" +
                 "n - start a new game\n" +
                 "\n" +
+                "u - undo the last move\n" +
+                "\n" +
+                "h - suggest a move for the current player\n" +
+                "\n" +
                 "q - quit othello\n" +
                 "\n" +
                 "{row}{column} - place piece for current player, {row} is 1-8, {column} is a-h\n" +
                 "\n" +
                 "{column}{row} - alternative format for placing a piece on the board\n" +
                 "\n" +
+                "Several moves can be played at once by separating them with spaces, e.g. d3 c5 f6\n" +
+                "\n" +
                 "Player X's turn.\n" +
                 "1 --------\n" +
                 "2 --------\n" +
@@ -207,4 +227,203 @@ public class OthelloREPLTest {
                 "\n" +
                 "> "));
     }
+
+    @Test
+    public void canUndoLastMove() {
+        FakeWriter output = new FakeWriter();
+        StringReader input = new StringReader("n \n 4c \n u");
+
+        OthelloREPL othello = new OthelloREPL(input, output);
+        othello.start();
+
+        assertThat(output.getOutput(), endsWith("" +
+                "Undoing last move.\n" +
+                "\n" +
+                "Player X's turn.\n" +
+                "1 --------\n" +
+                "2 --------\n" +
+                "3 --------\n" +
+                "4 ---OX---\n" +
+                "5 ---XO---\n" +
+                "6 --------\n" +
+                "7 --------\n" +
+                "8 --------\n" +
+                "  abcdefgh\n" +
+                "\n" +
+                "Score: X = 2, O = 2\n" +
+                "\n" +
+                "> "
+        ));
+    }
+
+    @Test
+    public void undoWithNoMovesShowsAnError() {
+        FakeWriter output = new FakeWriter();
+        StringReader input = new StringReader("u");
+
+        OthelloREPL othello = new OthelloREPL(input, output);
+        othello.start();
+
+        assertThat(output.getOutput(), endsWith("No moves to undo.\n" +
+                "\n" +
+                "> "));
+    }
+
+    @Test
+    public void hintComesFromOpeningBook() throws IOException {
+        Path path = folder.newFile("book.bin").toPath();
+        OpeningBookBuilder builder = new OpeningBookBuilder(2, 1);
+        builder.addGame(GameResult.parse("d3c3 O 20 44"));
+        builder.write(path);
+
+        FakeWriter output = new FakeWriter();
+        StringReader input = new StringReader("6e \n h");
+
+        try (OpeningBook book = new OpeningBook(path)) {
+            OthelloREPL othello = new OthelloREPL(input, output, book);
+            othello.start();
+        }
+
+        assertThat(output.getOutput(), endsWith("Book move: f6\n" +
+                "\n" +
+                "> "));
+    }
+
+    @Test
+    public void hintIsSearchedWithoutBook() {
+        FakeWriter output = new FakeWriter();
+        StringReader input = new StringReader("h");
+
+        OthelloREPL othello = new OthelloREPL(input, output);
+        othello.start();
+
+        assertThat(output.getOutput(), containsString("Suggested move: "));
+    }
+
+    @Test
+    public void replayRendersOnlyAtTheEnd() throws IOException {
+        FakeWriter output = new FakeWriter();
+        OthelloREPL othello = new OthelloREPL(new StringReader(""), output);
+
+        boolean replayed = othello.replay(new StringReader("# opening\nd3 c5\n6f\n"), "game.txt", true);
+
+        assertThat(replayed, equalTo(true));
+        assertThat(output.getOutput(), equalTo("" +
+                "Player O's turn.\n" +
+                "1 --------\n" +
+                "2 --------\n" +
+                "3 ---X----\n" +
+                "4 ---XX---\n" +
+                "5 --OOX---\n" +
+                "6 -----X--\n" +
+                "7 --------\n" +
+                "8 --------\n" +
+                "  abcdefgh\n" +
+                "\n" +
+                "Score: X = 5, O = 2\n"));
+    }
+
+    @Test
+    public void replayRendersOnRequest() throws IOException {
+        FakeWriter output = new FakeWriter();
+        OthelloREPL othello = new OthelloREPL(new StringReader(""), output);
+
+        othello.replay(new StringReader("d3 p c5"), "game.txt", false);
+
+        assertThat(output.getOutput(), endsWith("Score: X = 4, O = 1\n"));
+    }
+
+    @Test
+    public void replayStopsAtFirstBadMove() throws IOException {
+        FakeWriter output = new FakeWriter();
+        OthelloREPL othello = new OthelloREPL(new StringReader(""), output);
+
+        boolean replayed = othello.replay(new StringReader("d3\nc5 a1 f6"), "game.txt", true);
+
+        assertThat(replayed, equalTo(false));
+        assertThat(output.getOutput(), equalTo("game.txt:2: a1: Cannot place piece here, no opponent pieces will be taken.\n"));
+    }
+
+    @Test
+    public void validateReportsOnlyFailures() throws IOException {
+        List<Path> transcripts = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            Path transcript = folder.newFile("game" + i + ".txt").toPath();
+            Files.write(transcript, (i == 42 ? "d3 zz" : "d3 c5 f6").getBytes(StandardCharsets.UTF_8));
+            transcripts.add(transcript);
+        }
+
+        FakeWriter output = new FakeWriter();
+        int failures = new OthelloREPL(new StringReader(""), output).validate(transcripts);
+
+        assertThat(failures, equalTo(1));
+        assertThat(output.getOutput(), equalTo(transcripts.get(42) + ":1: zz: Not a valid move.\n" +
+                "Validated 100 transcripts, 1 failed.\n"));
+    }
+
+    @Test
+    public void severalMovesCanBePlayedOnOneLine() {
+        FakeWriter output = new FakeWriter();
+        StringReader input = new StringReader("d3 c5  6f");
+
+        OthelloREPL othello = new OthelloREPL(input, output);
+        othello.start();
+
+        assertThat(output.getOutput(), endsWith("" +
+                "Player O's turn.\n" +
+                "1 --------\n" +
+                "2 --------\n" +
+                "3 ---X----\n" +
+                "4 ---XX---\n" +
+                "5 --OOX---\n" +
+                "6 -----X--\n" +
+                "7 --------\n" +
+                "8 --------\n" +
+                "  abcdefgh\n" +
+                "\n" +
+                "Score: X = 5, O = 2\n" +
+                "\n" +
+                "> "));
+    }
+
+    @Test
+    public void lineWithAnInvalidWordPlaysNothing() {
+        FakeWriter output = new FakeWriter();
+        StringReader input = new StringReader("d3 c55");
+
+        OthelloREPL othello = new OthelloREPL(input, output);
+        othello.start();
+
+        assertThat(output.getOutput(), endsWith("d3 c55 is not a valid command.\n" +
+                "\n" +
+                "> "));
+    }
+
+    @Test
+    public void movesStopAtTheFirstIllegalOne() {
+        FakeWriter output = new FakeWriter();
+        StringReader input = new StringReader("d3 a1 c5");
+
+        OthelloREPL othello = new OthelloREPL(input, output);
+        othello.start();
+
+        assertThat(output.getOutput(), endsWith("Score: X = 4, O = 1\n" +
+                "Cannot place piece here, no opponent pieces will be taken.\n" +
+                "\n" +
+                "> "));
+    }
+
+    @Test
+    public void movesAreParsedInEitherOrder() {
+        int[] squares = new int[64];
+
+        assertThat(OthelloREPL.parseMoves("d3 3d h8 1a", squares), equalTo(4));
+        assertThat(squares[0], equalTo(19));
+        assertThat(squares[1], equalTo(19));
+        assertThat(squares[2], equalTo(63));
+        assertThat(squares[3], equalTo(0));
+        assertThat(OthelloREPL.parseMoves("i1", squares), equalTo(-1));
+        assertThat(OthelloREPL.parseMoves("d", squares), equalTo(-1));
+        assertThat(OthelloREPL.parseMoves("", squares), equalTo(-1));
+    }
 }